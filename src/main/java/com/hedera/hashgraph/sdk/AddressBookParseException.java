@@ -0,0 +1,14 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Passed to the error callback of {@link Client#startAddressBookRefresh(Duration, Consumer)}
+ * when the downloaded address book could not be parsed; the client keeps the nodes it has.
+ */
+public final class AddressBookParseException extends RuntimeException implements HederaThrowable {
+    AddressBookParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,140 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.proto.NodeAddress;
+import com.hedera.hashgraph.proto.NodeAddressBook;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.file.FileContentsQuery;
+import com.hedera.hashgraph.sdk.file.FileId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Periodically downloads the network address book ({@link FileId#ADDRESS_BOOK}) and applies it
+ * to a {@link Client} with {@link Client#replaceNodes(Map)}, so long-running clients follow nodes
+ * that move to a new address.
+ */
+final class AddressBookRefresher {
+    // the TLS port; the SDK only speaks plaintext so these entries are skipped
+    private static final int TLS_PORT = 50212;
+
+    private static final int DEFAULT_PORT = 50211;
+
+    private final Client client;
+    private final Duration period;
+    private final Consumer<HederaThrowable> onError;
+
+    private volatile boolean stopped = false;
+
+    @Nullable
+    private volatile ScheduledFuture<?> nextRefresh;
+
+    AddressBookRefresher(Client client, Duration period, Consumer<HederaThrowable> onError) {
+        this.client = client;
+        this.period = period;
+        this.onError = onError;
+    }
+
+    /**
+     * Refresh now and then every {@code period} after the previous refresh completes.
+     */
+    void start() {
+        if (!client.hasOperator()) {
+            throw new IllegalStateException("address book refresh requires an operator or operator pool to pay for the file query");
+        }
+
+        refresh();
+    }
+
+    void stop() {
+        stopped = true;
+
+        final ScheduledFuture<?> nextRefresh = this.nextRefresh;
+
+        if (nextRefresh != null) {
+            nextRefresh.cancel(false);
+        }
+    }
+
+    private void refresh() {
+        if (stopped) return;
+
+        new FileContentsQuery()
+            .setFileId(FileId.ADDRESS_BOOK)
+            .executeAsync(client, contents -> {
+                try {
+                    final Map<AccountId, String> nodes = parse(contents);
+
+                    if (!stopped && !nodes.isEmpty()) {
+                        client.replaceNodes(nodes);
+                    }
+                } catch (AddressBookParseException e) {
+                    // keep the nodes we have; there's nothing better to replace them with
+                    onError.accept(e);
+                } finally {
+                    scheduleNext();
+                }
+            }, error -> {
+                onError.accept(error);
+                scheduleNext();
+            });
+    }
+
+    private void scheduleNext() {
+        if (stopped) return;
+
+        nextRefresh = ThreadUtil.schedule(client.getScheduler(), this::refresh, period);
+    }
+
+    /**
+     * Parse the contents of the address book file into a map of node account ID to address.
+     *
+     * @throws AddressBookParseException if the file is not an address book, or an entry has no
+     *                                   valid node account ID.
+     */
+    static Map<AccountId, String> parse(byte[] contents) {
+        final NodeAddressBook addressBook;
+
+        try {
+            addressBook = NodeAddressBook.parseFrom(contents);
+        } catch (InvalidProtocolBufferException e) {
+            throw new AddressBookParseException("address book is not a valid NodeAddressBook", e);
+        }
+
+        final Map<AccountId, String> nodes = new HashMap<>();
+
+        for (NodeAddress nodeAddress : addressBook.getNodeAddressList()) {
+            if (nodeAddress.getPortno() == TLS_PORT) {
+                continue;
+            }
+
+            final AccountId accountId;
+
+            if (nodeAddress.hasNodeAccountId()) {
+                accountId = new AccountId(nodeAddress.getNodeAccountId());
+            } else {
+                // older address books only carry the account ID in the memo
+                final String memo = nodeAddress.getMemo().toString(StandardCharsets.UTF_8);
+
+                try {
+                    accountId = AccountId.fromString(memo);
+                } catch (IllegalArgumentException e) {
+                    throw new AddressBookParseException("address book entry has an invalid node account ID: \"" + memo + "\"", e);
+                }
+            }
+
+            final int port = nodeAddress.getPortno() != 0 ? nodeAddress.getPortno() : DEFAULT_PORT;
+
+            nodes.put(accountId, nodeAddress.getIpAddress().toString(StandardCharsets.UTF_8) + ":" + port);
+        }
+
+        return nodes;
+    }
+}
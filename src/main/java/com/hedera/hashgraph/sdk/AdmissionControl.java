@@ -0,0 +1,132 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * Settings for the client-side congestion control enabled by
+ * {@link Client#setAdmissionControl(AdmissionControl)}.
+ * <p>
+ * Every attempt of a transaction or query must be admitted before it is sent, and at most
+ * {@code limit} attempts may be in flight at once. The limit grows by roughly one for every
+ * {@code limit} successful attempts (additive increase) and is multiplied by the decrease factor
+ * when the network answers {@link Status#Busy} or gRPC {@code RESOURCE_EXHAUSTED}
+ * (multiplicative decrease), so the number of requests in flight settles at what the network
+ * will accept. Attempts over the limit wait for an earlier one to finish.
+ */
+public final class AdmissionControl {
+    private int initialLimit = 20;
+
+    private int minLimit = 1;
+
+    private int maxLimit = 1000;
+
+    private double decreaseFactor = 0.5;
+
+    private boolean perNode;
+
+    public AdmissionControl() { }
+
+    AdmissionControl(AdmissionControl other) {
+        initialLimit = other.initialLimit;
+        minLimit = other.minLimit;
+        maxLimit = other.maxLimit;
+        decreaseFactor = other.decreaseFactor;
+        perNode = other.perNode;
+    }
+
+    /**
+     * Set the number of attempts allowed in flight before any feedback has been received.
+     * <p>
+     * Defaults to 20.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AdmissionControl setInitialLimit(int initialLimit) {
+        if (initialLimit < 1) {
+            throw new IllegalArgumentException("initialLimit must be >= 1");
+        }
+
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Set the limit below which repeated {@code BUSY} responses will not shrink the window.
+     * <p>
+     * Defaults to 1.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AdmissionControl setMinLimit(int minLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be >= 1");
+        }
+
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    /**
+     * Set the limit above which successful attempts will not grow the window.
+     * <p>
+     * Defaults to 1000.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AdmissionControl setMaxLimit(int maxLimit) {
+        if (maxLimit < 1) {
+            throw new IllegalArgumentException("maxLimit must be >= 1");
+        }
+
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Set the factor the limit is multiplied by when the network reports it is overloaded.
+     * <p>
+     * Defaults to 0.5.
+     *
+     * @param decreaseFactor greater than 0 and less than 1.
+     * @return {@code this} for fluent usage.
+     */
+    public AdmissionControl setDecreaseFactor(double decreaseFactor) {
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor must be > 0 and < 1");
+        }
+
+        this.decreaseFactor = decreaseFactor;
+        return this;
+    }
+
+    /**
+     * Keep a separate limit for every node instead of one for the whole client, so a single
+     * overloaded node does not throttle calls to the others.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AdmissionControl setPerNode(boolean perNode) {
+        this.perNode = perNode;
+        return this;
+    }
+
+    int getInitialLimit() {
+        return initialLimit;
+    }
+
+    int getMinLimit() {
+        return minLimit;
+    }
+
+    int getMaxLimit() {
+        return maxLimit;
+    }
+
+    double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    boolean isPerNode() {
+        return perNode;
+    }
+}
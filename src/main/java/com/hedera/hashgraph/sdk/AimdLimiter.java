@@ -0,0 +1,201 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * An additive-increase/multiplicative-decrease window on the number of attempts in flight.
+ *
+ * @see AdmissionControl
+ */
+final class AimdLimiter {
+    enum Outcome {
+        /** the node handled the request; grows the window */
+        SUCCESS,
+        /** the node reported it is overloaded; shrinks the window */
+        OVERLOADED,
+        /** the attempt says nothing about the network's capacity, e.g. it was cancelled */
+        IGNORED,
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double decreaseFactor;
+
+    private double limit;
+
+    private int inFlight = 0;
+
+    // bumped on every decrease; permits acquired before the last decrease don't decrease again,
+    // so a burst of BUSY responses to one window of requests only halves the limit once
+    private long generation = 0;
+
+    private final Queue<Consumer<Permit>> waiters = new ArrayDeque<>();
+
+    AimdLimiter(AdmissionControl control) {
+        minLimit = control.getMinLimit();
+        maxLimit = Math.max(minLimit, control.getMaxLimit());
+        decreaseFactor = control.getDecreaseFactor();
+        limit = Math.max(minLimit, Math.min(maxLimit, control.getInitialLimit()));
+    }
+
+    /**
+     * Call {@code onAdmitted} once the attempt may be sent: immediately (on this thread) if the
+     * window has room, otherwise on the thread that releases the permit making room for it.
+     */
+    void acquire(Consumer<Permit> onAdmitted) {
+        final Permit permit;
+
+        synchronized (this) {
+            if (!waiters.isEmpty() || inFlight >= (int) limit) {
+                waiters.add(onAdmitted);
+                return;
+            }
+
+            permit = admit();
+        }
+
+        onAdmitted.accept(permit);
+    }
+
+    /**
+     * Wait until the attempt may be sent.
+     */
+    Permit acquire() throws InterruptedException {
+        final CompletableFuture<Permit> admitted = new CompletableFuture<>();
+
+        acquire(permit -> {
+            if (!admitted.complete(permit)) {
+                // we stopped waiting
+                permit.release(Outcome.IGNORED);
+            }
+        });
+
+        try {
+            return admitted.get();
+        } catch (InterruptedException e) {
+            if (!admitted.cancel(false)) {
+                admitted.join().release(Outcome.IGNORED);
+            }
+
+            throw e;
+        } catch (ExecutionException e) {
+            // never completed exceptionally
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Admit the attempt if the window has room right now.
+     *
+     * @return the permit, or {@code null} if the window is full.
+     */
+    @Nullable
+    synchronized Permit tryAcquire() {
+        if (!waiters.isEmpty() || inFlight >= (int) limit) {
+            return null;
+        }
+
+        return admit();
+    }
+
+    synchronized double getLimit() {
+        return limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    private Permit admit() {
+        inFlight += 1;
+        return new Permit(this, generation, null);
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        final List<Consumer<Permit>> admitted = new ArrayList<>();
+        final List<Permit> permits = new ArrayList<>();
+
+        synchronized (this) {
+            inFlight -= 1;
+
+            if (outcome == Outcome.SUCCESS) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            } else if (outcome == Outcome.OVERLOADED && permit.generation == generation) {
+                limit = Math.max(minLimit, limit * decreaseFactor);
+                generation += 1;
+            }
+
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                admitted.add(waiters.remove());
+                permits.add(admit());
+            }
+        }
+
+        for (int i = 0; i < admitted.size(); i++) {
+            admitted.get(i).accept(permits.get(i));
+        }
+    }
+
+    /**
+     * The right to have one attempt in flight; must be released exactly once when it finishes.
+     */
+    static final class Permit {
+        // released without a limiter when admission control is off
+        static final Permit NONE = new Permit(null, 0, null);
+
+        @Nullable
+        private final AimdLimiter limiter;
+
+        private final long generation;
+
+        // other limits the attempt was admitted by
+        @Nullable
+        private final Runnable onRelease;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(@Nullable AimdLimiter limiter, long generation, @Nullable Runnable onRelease) {
+            this.limiter = limiter;
+            this.generation = generation;
+            this.onRelease = onRelease;
+        }
+
+        /**
+         * Get a permit to use in place of this one which also runs {@code onRelease} when
+         * released.
+         */
+        Permit andThen(Runnable onRelease) {
+            final Runnable previous = this.onRelease;
+
+            return new Permit(limiter, generation, previous == null ? onRelease : () -> {
+                previous.run();
+                onRelease.run();
+            });
+        }
+
+        void release(Outcome outcome) {
+            if (!released.compareAndSet(false, true)) return;
+
+            if (limiter != null) {
+                limiter.release(this, outcome);
+            }
+
+            if (onRelease != null) {
+                onRelease.run();
+            }
+        }
+    }
+}
@@ -3,45 +3,80 @@ package com.hedera.hashgraph.sdk;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 final class Backoff {
     private int attempt = 0;
 
-    private final Duration baseDelay;
+    private Duration previousDelay = Duration.ZERO;
+
+    private final RetryPolicy policy;
     private final Instant expiration;
 
-    Backoff(Duration baseDelay, Duration timeout) {
-        this.baseDelay = baseDelay;
+    // runs async retries
+    private final ScheduledExecutorService scheduler;
+
+    Backoff(RetryPolicy policy, Duration timeout, ScheduledExecutorService scheduler) {
+        this.policy = policy;
         this.expiration = Instant.now().plus(timeout);
+        this.scheduler = scheduler;
     }
 
-    private Optional<Duration> getNextDelay() {
+    /**
+     * The time left until retries stop; negative once it has passed.
+     */
+    Duration getRemaining() {
+        return Duration.between(Instant.now(), expiration);
+    }
+
+    /**
+     * Ask the retry policy whether to retry after a failed attempt.
+     *
+     * @param retryable whether the call considers {@code error} retryable.
+     * @return the delay before the next attempt, or nothing if the policy says to stop or the
+     * retry would come after the timeout.
+     */
+    private Optional<Duration> getNextDelay(HederaThrowable error, boolean retryable) {
         attempt += 1;
 
-        final Duration nextDelay = baseDelay.multipliedBy(
-            ThreadLocalRandom.current().nextLong(1L << attempt));
+        @Nullable final Duration nextDelay = policy.getRetryDelay(attempt, previousDelay, error, retryable);
 
-        if (Instant.now().plus(nextDelay).isBefore(expiration)) {
+        if (nextDelay != null && Instant.now().plus(nextDelay).isBefore(expiration)) {
+            previousDelay = nextDelay;
             return Optional.of(nextDelay);
         } else {
             return Optional.empty();
         }
     }
 
-    <T, E extends Exception> T tryWhile(Predicate<E> shouldRetry, FallibleProducer<T, E> producer) throws E {
+    /**
+     * Call {@code producer} until it returns, retrying after a delay for as long as it throws
+     * {@link HederaThrowable}s (checked or not) and the retry policy and timeout allow.
+     *
+     * @param isRetryable whether the call considers an error retryable; passed on to the policy.
+     * @param beforeRetry run before each retry, once it is certain to be made.
+     */
+    <T, E extends Exception> T tryWhile(Predicate<HederaThrowable> isRetryable, Runnable beforeRetry, FallibleProducer<T, E> producer) throws E {
         for (;;) {
             try {
-                return producer.tryProduce();
+                final T result = producer.tryProduce();
+                policy.onSuccess();
+                return result;
             } catch (Exception e) {
-                final Optional<Duration> nextDelay = getNextDelay();
+                if (!(e instanceof HederaThrowable)) throw e;
+
+                final HederaThrowable error = (HederaThrowable) e;
+                final Optional<Duration> nextDelay = getNextDelay(error, isRetryable.test(error));
 
-                // `producer` can only throw `E` as a checked exception
-                // noinspection unchecked
-                if (!(e instanceof RuntimeException) && shouldRetry.test((E) e) && nextDelay.isPresent()) {
+                if (nextDelay.isPresent()) {
                     ThreadUtil.sleepDuration(nextDelay.get());
+                    beforeRetry.run();
                 } else {
                     throw e;
                 }
@@ -49,20 +84,60 @@ final class Backoff {
         }
     }
 
-    <T, E> void asyncTryWhile(Predicate<E> shouldRetry, Consumer<Consumer<E>> onTry, Consumer<E> onError) {
+    /**
+     * Make attempts with {@code onTry} until one succeeds, retrying after a delay for as long as
+     * they fail and the retry policy and timeout allow.
+     * <p>
+     * {@code onTry} is given the callback to report a failed attempt with; a successful attempt
+     * must report itself with {@link #onSuccess()}. No further attempts are made once
+     * {@code cancellation} is cancelled and a scheduled retry is cancelled along with it.
+     *
+     * @param isRetryable whether the call considers an error retryable; passed on to the policy.
+     * @param beforeRetry run before each retry, once it is certain to be made.
+     */
+    void asyncTryWhile(
+        Predicate<HederaThrowable> isRetryable,
+        Runnable beforeRetry,
+        Consumer<Consumer<HederaThrowable>> onTry,
+        Consumer<HederaThrowable> onError,
+        Cancellation cancellation)
+    {
         onTry.accept(e -> {
-            final Optional<Duration> nextDelay = getNextDelay();
+            if (cancellation.isCancelled()) {
+                onError.accept(e);
+                return;
+            }
+
+            final Optional<Duration> nextDelay = getNextDelay(e, isRetryable.test(e));
+
+            if (nextDelay.isPresent()) {
+                final AtomicReference<ScheduledFuture<?>> retry = new AtomicReference<>();
+
+                // registered before scheduling so it can't replace whatever the retry registers
+                cancellation.setOnCancel(() -> {
+                    final ScheduledFuture<?> scheduled = retry.get();
 
-            if (shouldRetry.test(e) && nextDelay.isPresent()) {
-                ThreadUtil.schedule(() ->
-                        asyncTryWhile(shouldRetry, onTry, onError),
-                    nextDelay.get());
+                    if (scheduled != null) {
+                        scheduled.cancel(false);
+                    }
+                });
+
+                retry.set(ThreadUtil.schedule(scheduler, () -> {
+                    if (!cancellation.isCancelled()) {
+                        beforeRetry.run();
+                        asyncTryWhile(isRetryable, beforeRetry, onTry, onError, cancellation);
+                    }
+                }, nextDelay.get()));
             } else {
                 onError.accept(e);
             }
         });
     }
 
+    void onSuccess() {
+        policy.onSuccess();
+    }
+
     @FunctionalInterface
     interface FallibleProducer<T, E extends Exception> {
         T tryProduce() throws E;
@@ -0,0 +1,58 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.mirror.MirrorClient;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ready-made executors for {@link Client#setCallbackExecutor(Executor)},
+ * {@link HederaCall#setCallbackExecutor(Executor)} and
+ * {@link MirrorClient#setCallbackExecutor(Executor)}.
+ */
+public final class CallbackExecutors {
+    private CallbackExecutors() { }
+
+    /**
+     * Run callbacks directly on the gRPC thread that received the response.
+     * <p>
+     * This has the lowest latency but the callbacks must be quick and must never block, as no
+     * other responses on that thread are processed until they return. This is the default.
+     */
+    public static Executor direct() {
+        return Runnable::run;
+    }
+
+    /**
+     * Run callbacks on a fixed pool of daemon threads with a bounded queue, isolating the
+     * transport from slow callbacks.
+     * <p>
+     * Once the queue is full, callbacks run on the gRPC thread that received the response, which
+     * slows down the transport instead of dropping results or growing without bound.
+     * <p>
+     * The pool is not shut down by any client; shut it down when it is no longer used.
+     *
+     * @param threads       the number of threads to run callbacks on.
+     * @param queueCapacity the number of callbacks that may wait for a thread.
+     */
+    public static ExecutorService boundedPool(int threads, int queueCapacity) {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                final Thread thread = new Thread(r, "hedera-callback-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
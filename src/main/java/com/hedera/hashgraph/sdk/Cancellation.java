@@ -0,0 +1,78 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Lets the caller of an asynchronous operation stop it part way through.
+ * <p>
+ * An operation is a sequence of steps (a gRPC call, a wait before the next retry, ...) of which
+ * only one is in progress at a time; each step registers how to stop itself with
+ * {@link #setOnCancel(Runnable)}.
+ */
+final class Cancellation {
+    private boolean cancelled = false;
+
+    @Nullable
+    private Runnable onCancel;
+
+    // run on cancellation whichever step is in progress
+    private final List<Runnable> cleanups = new ArrayList<>();
+
+    synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Set how to stop the step now in progress, replacing that of the previous step.
+     * <p>
+     * If the operation has already been cancelled, {@code onCancel} is run immediately.
+     */
+    void setOnCancel(Runnable onCancel) {
+        synchronized (this) {
+            if (!cancelled) {
+                this.onCancel = onCancel;
+                return;
+            }
+        }
+
+        onCancel.run();
+    }
+
+    /**
+     * Add something to do when the operation is cancelled, whichever step it is at; if it has
+     * already been cancelled, {@code cleanup} is run immediately.
+     */
+    void addCleanup(Runnable cleanup) {
+        synchronized (this) {
+            if (!cancelled) {
+                cleanups.add(cleanup);
+                return;
+            }
+        }
+
+        cleanup.run();
+    }
+
+    void cancel() {
+        final Runnable onCancel;
+
+        synchronized (this) {
+            if (cancelled) return;
+
+            cancelled = true;
+            onCancel = this.onCancel;
+            this.onCancel = null;
+        }
+
+        if (onCancel != null) {
+            onCancel.run();
+        }
+
+        for (Runnable cleanup : cleanups) {
+            cleanup.run();
+        }
+    }
+}
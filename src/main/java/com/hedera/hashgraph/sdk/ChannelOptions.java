@@ -0,0 +1,198 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.mirror.MirrorClient;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+/**
+ * Transport settings for the gRPC channels opened by {@link Client} (to every node) and by
+ * {@link MirrorClient}.
+ * <p>
+ * Any setting that is not set keeps the gRPC default.
+ */
+public final class ChannelOptions {
+    @Nullable
+    private Executor executor;
+
+    @Nullable
+    private Duration keepAliveTime;
+
+    @Nullable
+    private Duration keepAliveTimeout;
+
+    private boolean keepAliveWithoutCalls;
+
+    @Nullable
+    private Duration idleTimeout;
+
+    private int maxInboundMessageSize;
+
+    private int flowControlWindow;
+
+    public ChannelOptions() { }
+
+    ChannelOptions(ChannelOptions other) {
+        executor = other.executor;
+        keepAliveTime = other.keepAliveTime;
+        keepAliveTimeout = other.keepAliveTimeout;
+        keepAliveWithoutCalls = other.keepAliveWithoutCalls;
+        idleTimeout = other.idleTimeout;
+        maxInboundMessageSize = other.maxInboundMessageSize;
+        flowControlWindow = other.flowControlWindow;
+    }
+
+    /**
+     * Set the executor gRPC uses for application code such as response callbacks.
+     * <p>
+     * By default gRPC uses a shared cached thread pool.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Send a keepalive ping on a connection after it has been idle for this long, so that dead
+     * connections are detected (and connections are not dropped by intermediaries) before the
+     * next call has to find out.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setKeepAliveTime(Duration keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+        return this;
+    }
+
+    /**
+     * Close a connection if a keepalive ping is not acknowledged within this long.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setKeepAliveTimeout(Duration keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+        return this;
+    }
+
+    /**
+     * Send keepalive pings even when there are no calls in flight.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setKeepAliveWithoutCalls(boolean keepAliveWithoutCalls) {
+        this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+        return this;
+    }
+
+    /**
+     * Release a channel's connection after it has had no calls for this long; it is reconnected
+     * on the next call.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * Set the largest response, in bytes, the channel will accept. Raise this for large
+     * responses such as big files from
+     * {@link com.hedera.hashgraph.sdk.file.FileContentsQuery} or long lists from
+     * {@link com.hedera.hashgraph.sdk.account.AccountRecordsQuery}.
+     * <p>
+     * The gRPC default is 4 MiB.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setMaxInboundMessageSize(int bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("maxInboundMessageSize must be > 0");
+        }
+
+        this.maxInboundMessageSize = bytes;
+        return this;
+    }
+
+    /**
+     * Set the initial HTTP/2 flow-control window, in bytes, for each connection. A larger window
+     * allows more data in flight per connection at the cost of buffer memory.
+     * <p>
+     * This is a transport-specific setting; it is supported by the Netty and OkHttp
+     * transports and an {@link IllegalStateException} is thrown when a channel is opened with any
+     * other transport.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ChannelOptions setFlowControlWindow(int bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("flowControlWindow must be > 0");
+        }
+
+        this.flowControlWindow = bytes;
+        return this;
+    }
+
+    /**
+     * Open a plaintext channel to {@code target} with these options applied.
+     */
+    @Internal
+    public ManagedChannel buildChannel(String target) {
+        final ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forTarget(target)
+            .usePlaintext();
+
+        if (executor != null) {
+            builder.executor(executor);
+        }
+
+        if (keepAliveTime != null) {
+            builder.keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (keepAliveTimeout != null) {
+            builder.keepAliveTimeout(keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (keepAliveWithoutCalls) {
+            builder.keepAliveWithoutCalls(true);
+        }
+
+        if (idleTimeout != null) {
+            builder.idleTimeout(idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (maxInboundMessageSize > 0) {
+            builder.maxInboundMessageSize(maxInboundMessageSize);
+        }
+
+        if (flowControlWindow > 0) {
+            setFlowControlWindow(builder, flowControlWindow);
+        }
+
+        return builder.build();
+    }
+
+    // `flowControlWindow(int)` is not part of `ManagedChannelBuilder` but is declared by both the
+    // Netty and OkHttp builders; we only depend on `grpc-api` so we have to find it at runtime
+    private static void setFlowControlWindow(ManagedChannelBuilder<?> builder, int bytes) {
+        try {
+            final Method method = builder.getClass().getMethod("flowControlWindow", int.class);
+            method.invoke(builder, bytes);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("gRPC transport "
+                + builder.getClass().getName() + " does not support setting the flow control window", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("failed to set flow control window", e.getCause());
+        }
+    }
+}
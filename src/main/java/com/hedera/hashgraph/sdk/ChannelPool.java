@@ -0,0 +1,175 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A fixed set of connections to the same node.
+ * <p>
+ * Each {@link ManagedChannel} is a single HTTP/2 connection which the server limits to a maximum
+ * number of concurrent streams; past that, calls queue inside the channel. Spreading calls over
+ * several channels lets throughput scale with the number of connections.
+ */
+final class ChannelPool {
+    private final ManagedChannel[] channels;
+
+    // `channels` wrapped to count the calls currently active on each
+    private final Channel[] countingChannels;
+    private final AtomicInteger[] activeCalls;
+
+    // rotates the starting point of the least-loaded search so ties are spread evenly
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    ChannelPool(String address, int size, ChannelOptions options) {
+        if (size < 1) {
+            throw new IllegalArgumentException("channel pool size must be at least 1");
+        }
+
+        channels = new ManagedChannel[size];
+        countingChannels = new Channel[size];
+        activeCalls = new AtomicInteger[size];
+
+        for (int i = 0; i < size; i++) {
+            final AtomicInteger active = new AtomicInteger();
+
+            channels[i] = options.buildChannel(address);
+
+            countingChannels[i] = ClientInterceptors.intercept(channels[i], new ActiveCallCounter(active));
+            activeCalls[i] = active;
+        }
+    }
+
+    int size() {
+        return channels.length;
+    }
+
+    /**
+     * Get the channel with the fewest active calls.
+     */
+    Channel next() {
+        final int size = channels.length;
+
+        if (size == 1) {
+            return countingChannels[0];
+        }
+
+        final int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+
+        int best = start;
+        int bestActive = activeCalls[start].get();
+
+        for (int i = 1; i < size && bestActive > 0; i++) {
+            final int index = (start + i) % size;
+            final int active = activeCalls[index].get();
+
+            if (active < bestActive) {
+                best = index;
+                bestActive = active;
+            }
+        }
+
+        return countingChannels[best];
+    }
+
+    /**
+     * Ask every channel in the pool to connect, without waiting for a call to trigger it.
+     *
+     * @param onReady called once every channel is connected and ready for calls; not called if
+     *                any channel is shut down first.
+     */
+    void connect(Runnable onReady) {
+        final AtomicInteger remaining = new AtomicInteger(channels.length);
+
+        for (ManagedChannel channel : channels) {
+            whenReady(channel, () -> {
+                if (remaining.decrementAndGet() == 0) {
+                    onReady.run();
+                }
+            });
+        }
+    }
+
+    private static void whenReady(ManagedChannel channel, Runnable onReady) {
+        // `true` requests a connection if the channel is idle
+        final ConnectivityState state = channel.getState(true);
+
+        if (state == ConnectivityState.READY) {
+            onReady.run();
+        } else if (state != ConnectivityState.SHUTDOWN) {
+            channel.notifyWhenStateChanged(state, () -> whenReady(channel, onReady));
+        }
+    }
+
+    int getActiveCalls() {
+        int total = 0;
+
+        for (AtomicInteger active : activeCalls) {
+            total += active.get();
+        }
+
+        return total;
+    }
+
+    void shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+    }
+
+    /**
+     * Shut down every channel in the pool and wait for them to terminate.
+     *
+     * @return {@code true} if all channels terminated before the timeout elapsed.
+     */
+    boolean awaitTermination(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        final long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+
+        for (ManagedChannel channel : channels) {
+            final long remainingNanos = deadlineNanos - System.nanoTime();
+
+            if (!channel.shutdown().awaitTermination(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class ActiveCallCounter implements ClientInterceptor {
+        private final AtomicInteger active;
+
+        private ActiveCallCounter(AtomicInteger active) {
+            this.active = active;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+            return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    active.incrementAndGet();
+
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                        @Override
+                        public void onClose(io.grpc.Status status, Metadata trailers) {
+                            active.decrementAndGet();
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+
+/**
+ * Takes a {@link Node} out of rotation after repeated failures.
+ * <ul>
+ *     <li>{@code CLOSED}: the node is in use; consecutive failures are counted and once they
+ *     reach the threshold the breaker opens.</li>
+ *     <li>{@code OPEN}: the node is not given new work until the cooldown has elapsed.</li>
+ *     <li>{@code HALF_OPEN}: the cooldown has elapsed and a single cheap probe is in flight;
+ *     success closes the breaker, failure opens it again with twice the cooldown.</li>
+ * </ul>
+ */
+final class CircuitBreaker {
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN,
+    }
+
+    static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    static final Duration DEFAULT_BASE_COOLDOWN = Duration.ofSeconds(5);
+    static final Duration DEFAULT_MAX_COOLDOWN = Duration.ofMinutes(1);
+
+    private final int failureThreshold;
+    private final Duration baseCooldown;
+    private final Duration maxCooldown;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures = 0;
+
+    // number of times the breaker has opened without closing in between; scales the cooldown
+    private int consecutiveTrips = 0;
+
+    private long openUntilNanos = 0;
+
+    CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_BASE_COOLDOWN, DEFAULT_MAX_COOLDOWN);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration baseCooldown, Duration maxCooldown) {
+        this.failureThreshold = failureThreshold;
+        this.baseCooldown = baseCooldown;
+        this.maxCooldown = maxCooldown;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * Record a call the node served; any success proves the node is working again.
+     */
+    synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        consecutiveTrips = 0;
+    }
+
+    /**
+     * Record a call the node failed to serve (transport error or {@code BUSY}).
+     */
+    synchronized void recordFailure() {
+        consecutiveFailures += 1;
+
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            trip();
+        }
+    }
+
+    /**
+     * If the breaker is open and its cooldown has elapsed, move it to half-open.
+     *
+     * @return {@code true} if the caller should now probe the node and report the result with
+     * {@link #endProbe(boolean)}.
+     */
+    synchronized boolean tryBeginProbe() {
+        if (state != State.OPEN || System.nanoTime() - openUntilNanos < 0) {
+            return false;
+        }
+
+        state = State.HALF_OPEN;
+        return true;
+    }
+
+    synchronized void endProbe(boolean reachable) {
+        if (state != State.HALF_OPEN) {
+            // a live call already decided the state
+            return;
+        }
+
+        if (reachable) {
+            recordSuccess();
+        } else {
+            trip();
+        }
+    }
+
+    private void trip() {
+        // 2^trips without overflowing; the cooldown is capped well before this matters
+        final Duration cooldown = baseCooldown.multipliedBy(1L << Math.min(consecutiveTrips, 16));
+
+        state = State.OPEN;
+        consecutiveTrips += 1;
+        openUntilNanos = System.nanoTime()
+            + (cooldown.compareTo(maxCooldown) > 0 ? maxCooldown : cooldown).toNanos();
+    }
+}
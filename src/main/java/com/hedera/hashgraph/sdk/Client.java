@@ -16,11 +16,14 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -49,13 +52,37 @@ import javax.annotation.Nullable;
  * This is only necessary when you're completely finished with the Client; it can and should be
  * reused between multiple queries and transactions. The Client may not be reused once its
  * channels have been shut down.
+ * <p>
+ * A Client created with {@link #Client(Network)} shares the channels of that {@link Network}
+ * and closing it leaves them open; close the network itself instead.
  */
 public final class Client implements AutoCloseable {
-    final Random random = new Random();
-    private Map<AccountId, Node> nodes;
+    private final Network network;
+
+    // whether closing this client closes the network, i.e. it wasn't given one to share
+    private final boolean ownsNetwork;
 
     static final long DEFAULT_MAX_TXN_FEE = 100_000_000; // 1 hbar
 
+    static final Duration DEFAULT_ATTEMPT_TIMEOUT = Duration.ofSeconds(10);
+
+    private ScheduledExecutorService scheduler = ThreadUtil.DEFAULT_SCHEDULER;
+
+    @Nullable
+    private Duration attemptTimeout = DEFAULT_ATTEMPT_TIMEOUT;
+
+    @Nullable
+    private Executor callbackExecutor;
+
+    private RetryPolicy retryPolicy = new DefaultRetryPolicy();
+
+    private Clock clock = Clock.systemUTC();
+
+    private boolean clockSkewEstimation = false;
+
+    @Nullable
+    private AddressBookRefresher addressBookRefresher;
+
     // todo: transaction fees should be defaulted to whatever the transaction fee schedule is
     private long maxTransactionFee = DEFAULT_MAX_TXN_FEE;
 
@@ -71,14 +98,31 @@ public final class Client implements AutoCloseable {
     @Nullable
     private TransactionSigner operatorSigner;
 
+    @Nullable
+    private OperatorPool operatorPool;
+
     public Client(Map<AccountId, String> nodes) {
-        if (nodes.isEmpty()) {
-            throw new IllegalArgumentException("List of nodes must not be empty");
-        }
+        this(new Network(nodes), true);
+    }
+
+    /**
+     * Create a client that sends its transactions and queries to a network shared with other
+     * clients.
+     * <p>
+     * The client has its own operator, fee limits, timeouts and retry policy but no channels of
+     * its own, so it is cheap to create one per operator. Settings that apply to nodes or
+     * channels, such as {@link #setChannelPoolSize(int)} or {@link #setAdmissionControl(AdmissionControl)},
+     * change them for every client on the network. {@link #close()} does not close the network.
+     *
+     * @param network the network, which remains owned by the caller.
+     */
+    public Client(Network network) {
+        this(network, false);
+    }
 
-        this.nodes = nodes.entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, t -> new Node(t.getKey(), t.getValue())));
+    private Client(Network network, boolean ownsNetwork) {
+        this.network = network;
+        this.ownsNetwork = ownsNetwork;
     }
 
     /**
@@ -91,20 +135,7 @@ public final class Client implements AutoCloseable {
      * @return a Client configured for Hedera mainnet access
      */
     public static Client forMainnet() {
-        // connect to all known nodes
-        final HashMap<AccountId, String> nodes = new HashMap<>();
-        nodes.put(new AccountId(3), "35.237.200.180:50211");
-        nodes.put(new AccountId(4), "35.186.191.247:50211");
-        nodes.put(new AccountId(5), "35.192.2.25:50211");
-        nodes.put(new AccountId(6), "35.199.161.108:50211");
-        nodes.put(new AccountId(7), "35.203.82.240:50211");
-        nodes.put(new AccountId(8), "35.236.5.219:50211");
-        nodes.put(new AccountId(9), "35.197.192.225:50211");
-        nodes.put(new AccountId(10), "35.242.233.154:50211");
-        nodes.put(new AccountId(11), "35.240.118.96:50211");
-        nodes.put(new AccountId(12), "35.204.86.32:50211");
-
-        return new Client(nodes);
+        return new Client(Network.forMainnet(), true);
     }
 
     /**
@@ -117,13 +148,7 @@ public final class Client implements AutoCloseable {
      * @return a Client configured for Hedera testnet access
      */
     public static Client forTestnet() {
-        final HashMap<AccountId, String> nodes = new HashMap<>();
-        nodes.put(new AccountId(3), "0.testnet.hedera.com:50211");
-        nodes.put(new AccountId(4), "1.testnet.hedera.com:50211");
-        nodes.put(new AccountId(5), "2.testnet.hedera.com:50211");
-        nodes.put(new AccountId(6), "3.testnet.hedera.com:50211");
-
-        return new Client(nodes);
+        return new Client(Network.forTestnet(), true);
     }
 
     /**
@@ -185,38 +210,67 @@ public final class Client implements AutoCloseable {
     /**
      * Replace all nodes in this Client with a new set of nodes (e.g. for an Address Book update).
      * <p>
-     * If a node URL for a given account ID is the same, it is not replaced.
+     * If a node URL for a given account ID is the same, it is not replaced: its channels stay
+     * open and its in-flight calls are unaffected. Nodes that are removed or whose URL changed
+     * have their channels shut down after their in-flight calls finish.
      *
      * @param nodes a map of node account ID to node URL.
      * @return {@code this} for fluent API usage.
      */
     public Client replaceNodes(Map<AccountId, String> nodes) {
-        this.nodes.replaceAll((nodeAcct, node) -> {
-            String newNodeUrl = nodes.get(nodeAcct);
-
-            // node hasn't changed
-            if (node.address.equals(newNodeUrl)) {
-                return node;
-            }
+        network.replaceNodes(nodes);
+        return this;
+    }
 
-            // close node channel
-            node.closeChannel();
+    /**
+     * Keep this client's nodes up to date with the network address book
+     * ({@link com.hedera.hashgraph.sdk.file.FileId#ADDRESS_BOOK}).
+     * <p>
+     * The address book is downloaded now, and then again {@code period} after each download
+     * completes, and applied with {@link #replaceNodes(Map)}. Downloading the file is a paid
+     * query so an operator, or a non-empty {@link #setOperatorPool(OperatorPool) operator pool},
+     * must be set first; with a pool, each download is paid for by the next operator in it.
+     * <p>
+     * Errors are ignored and the next refresh is attempted as scheduled; use
+     * {@link #startAddressBookRefresh(Duration, Consumer)} to observe them.
+     *
+     * @param period the time to wait between refreshes.
+     * @return {@code this} for fluent usage.
+     */
+    public Client startAddressBookRefresh(Duration period) {
+        return startAddressBookRefresh(period, error -> { });
+    }
 
-            // replace node
-            if (newNodeUrl != null) {
-                return new Node(nodeAcct, newNodeUrl);
-            }
+    /**
+     * Keep this client's nodes up to date with the network address book, as in
+     * {@link #startAddressBookRefresh(Duration)}, passing any error from a refresh to
+     * {@code onError}.
+     * <p>
+     * Any refresh already started on this client is stopped first.
+     *
+     * @param period  the time to wait between refreshes.
+     * @param onError called with the error from any refresh that fails.
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Client startAddressBookRefresh(Duration period, Consumer<HederaThrowable> onError) {
+        stopAddressBookRefresh();
 
-            // make null for removal
-            return null;
-        });
+        final AddressBookRefresher refresher = new AddressBookRefresher(this, period, onError);
+        refresher.start();
 
-        // remove
-        this.nodes.values().removeAll(Collections.singleton(null));
+        addressBookRefresher = refresher;
+        return this;
+    }
 
-        // add new nodes
-        for (Map.Entry<AccountId, String> node : nodes.entrySet()) {
-            this.nodes.put(node.getKey(), new Node(node.getKey(), node.getValue()));
+    /**
+     * Stop refreshing nodes from the address book, if started.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Client stopAddressBookRefresh() {
+        if (addressBookRefresher != null) {
+            addressBookRefresher.stop();
+            addressBookRefresher = null;
         }
 
         return this;
@@ -285,7 +339,8 @@ public final class Client implements AutoCloseable {
      * {@link QueryBuilder#setPaymentTransaction(Transaction)}
      * or {@link QueryBuilder#setQueryPayment(Hbar)} call, the client will first request the cost
      * of the given query from the node it will be submitted to and attach a payment for that amount
-     * from the operator account on the client.
+     * from the operator account on the client (or pay a remembered cost, see
+     * {@link #setQueryCostCacheTtl(Duration)}).
      * <p>
      * If the returned value is greater than this value, a
      * {@link MaxQueryPaymentExceededException} will be thrown from
@@ -306,6 +361,256 @@ public final class Client implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Remember the cost of each query for {@code ttl}, so that executing the same query again
+     * without an explicit payment pays the remembered cost instead of asking the node for it
+     * first.
+     * <p>
+     * Costs are remembered per node and per query type and parameters, e.g. an
+     * {@link AccountInfoQuery} for one account or a
+     * {@link com.hedera.hashgraph.sdk.contract.ContractCallQuery} with the same parameters and
+     * gas. If a node rejects a remembered cost with {@link Status#InsufficientTxFee} (e.g. because
+     * fees or the size of the answer have gone up), the cost is forgotten and the query is tried
+     * once more after asking for the current cost. A remembered cost that has gone down is
+     * overpaid until it expires.
+     * <p>
+     * The costs are shared by every client on the same {@link Network}. Pass {@code null} or
+     * zero to stop remembering costs. Off by default.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Client setQueryCostCacheTtl(@Nullable Duration ttl) {
+        network.setQueryCostCacheTtl(ttl);
+        return this;
+    }
+
+    /**
+     * Set the number of gRPC channels (connections) opened to each node.
+     * <p>
+     * A single connection is limited by the server to a maximum number of concurrent calls, past
+     * which calls are queued on the client. Applications with thousands of calls in flight at
+     * once should raise this; new calls are sent on whichever channel to the node has the fewest
+     * active calls.
+     * <p>
+     * Channels that are already open are shut down (after their in-flight calls finish) and
+     * replaced with a pool of the new size on the next call to that node.
+     * <p>
+     * Defaults to 1.
+     *
+     * @param channelPoolSize the number of channels per node; must be at least 1.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setChannelPoolSize(int channelPoolSize) {
+        network.setChannelPoolSize(channelPoolSize);
+        return this;
+    }
+
+    /**
+     * Set the transport options (executor, keepalive, flow control, message size limits, etc.)
+     * for the gRPC channels opened to every node.
+     * <p>
+     * The options are copied; later changes to {@code channelOptions} have no effect unless it
+     * is passed to this method again. Channels that are already open are shut down (after their
+     * in-flight calls finish) and reopened with the new options on the next call to that node.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Client setChannelOptions(ChannelOptions channelOptions) {
+        network.setChannelOptions(channelOptions);
+        return this;
+    }
+
+    /**
+     * Set the scheduler used to run retries after a backoff delay, hedged queries and other
+     * delayed work for asynchronous calls made with this client.
+     * <p>
+     * Scheduled tasks only start calls and never block, so a small pool can serve any number
+     * of calls; supply a scheduler here to share threads with the rest of the application or to
+     * use a different timer implementation (e.g. a hashed wheel timer behind the
+     * {@link ScheduledExecutorService} interface). The scheduler is not shut down by
+     * {@link #close()}.
+     * <p>
+     * By default a pool shared by all clients is used, with one daemon thread per processor.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Client setScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * Set the deadline for each attempt of a transaction or query made with this client.
+     * <p>
+     * An attempt that doesn't complete in time is cancelled and retried if the call's overall
+     * timeout has not passed; an attempt is also never given longer than is left of the overall
+     * timeout. Individual calls can override this with
+     * {@link HederaCall#setAttemptTimeout(Duration)}.
+     * <p>
+     * Defaults to 10 seconds.
+     *
+     * @param attemptTimeout the deadline, or {@code null} to bound attempts only by the overall
+     *                       timeout.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setAttemptTimeout(@Nullable Duration attemptTimeout) {
+        this.attemptTimeout = attemptTimeout;
+        return this;
+    }
+
+    /**
+     * Set the clock that the valid start of generated transaction IDs is taken from.
+     * <p>
+     * Defaults to {@link Clock#systemUTC()}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Client setClock(Clock clock) {
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Set whether generated transaction IDs get a valid start fitted to the node the
+     * transaction is sent to, rather than a fixed 10 seconds in the past.
+     * <p>
+     * The offset of each node's clock is learnt from the consensus timestamps of the
+     * {@link TransactionRecord}s it serves; a transaction for a node with a known offset gets a
+     * valid start just far enough in the past for that node to accept it, so more of its valid
+     * duration is left for queueing and retries. Transactions for other nodes keep the fixed
+     * offset, as do consensus message chunks.
+     * <p>
+     * Off by default. Consensus timestamps reflect the network's time rather than exactly the
+     * node's, so this is best paired with {@link SingleTransactionBuilder#setMaxRegenerations(int)}
+     * to recover from an occasional {@link Status#InvalidTransactionStart}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Client setClockSkewEstimation(boolean clockSkewEstimation) {
+        this.clockSkewEstimation = clockSkewEstimation;
+        return this;
+    }
+
+    /**
+     * Set the policy deciding whether and when transactions and queries made with this client
+     * are retried. Individual calls can override this with
+     * {@link HederaCall#setRetryPolicy(RetryPolicy)}.
+     * <p>
+     * Defaults to a new {@link DefaultRetryPolicy} for each client.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Client setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * Set the executor that runs the callbacks passed to {@code executeAsync()}, and completes
+     * the futures returned by {@code executeFuture()}, for calls made with this client.
+     * <p>
+     * By default callbacks run directly on the gRPC thread that received the response, so a slow
+     * callback holds up other responses; use {@link CallbackExecutors#boundedPool(int, int)}
+     * (or any other executor) to isolate them. Individual calls can override this with
+     * {@link HederaCall#setCallbackExecutor(Executor)}.
+     *
+     * @param callbackExecutor the executor, or {@code null} to run callbacks directly.
+     * @return {@code this} for fluent usage.
+     * @see CallbackExecutors
+     */
+    public Client setCallbackExecutor(@Nullable Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
+
+    /**
+     * Limit the number of transactions and queries in flight at once, for the whole client
+     * and/or for each node.
+     * <p>
+     * The settings are copied. Requests already waiting under the previous settings are still
+     * admitted by them. Pass {@code null} to remove the limits.
+     * <p>
+     * No limit by default.
+     *
+     * @return {@code this} for fluent usage.
+     * @see InFlightLimit
+     */
+    public Client setInFlightLimit(@Nullable InFlightLimit inFlightLimit) {
+        network.setInFlightLimit(inFlightLimit);
+        return this;
+    }
+
+    /**
+     * Get the current state of the client-wide in-flight limit.
+     *
+     * @return the stats, or {@code null} if there is no client-wide limit.
+     */
+    @Nullable
+    public InFlightStats getInFlightStats() {
+        return network.getInFlightStats();
+    }
+
+    /**
+     * Get the current state of the in-flight limit for one node.
+     *
+     * @return the stats, or {@code null} if there is no per-node limit.
+     * @throws IllegalArgumentException if the node is not in this client's network.
+     */
+    @Nullable
+    public InFlightStats getInFlightStats(AccountId nodeId) {
+        return network.getInFlightStats(nodeId);
+    }
+
+    /**
+     * Enable client-side congestion control: limit the number of transaction and query attempts
+     * in flight at once, shrinking the limit when the network reports it is busy and growing
+     * it again as calls succeed.
+     * <p>
+     * The settings are copied, and any calls waiting for admission under the previous settings
+     * are still admitted by them. Pass {@code null} to turn admission control off again.
+     * <p>
+     * Off by default.
+     *
+     * @return {@code this} for fluent usage.
+     * @see AdmissionControl
+     */
+    public Client setAdmissionControl(@Nullable AdmissionControl admissionControl) {
+        network.setAdmissionControl(admissionControl);
+        return this;
+    }
+
+    /**
+     * Connect to every node in parallel ahead of time, so the first transaction or query to
+     * each node does not pay for DNS resolution and connection setup.
+     * <p>
+     * Equivalent to {@link #warmUp(Duration, boolean)} without pinging.
+     *
+     * @param timeout how long to wait for all nodes.
+     * @return a map of every node account ID to whether that node connected within the timeout.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Map<AccountId, Boolean> warmUp(Duration timeout) throws InterruptedException {
+        return warmUp(timeout, false);
+    }
+
+    /**
+     * Connect to every node in parallel ahead of time, so the first transaction or query to
+     * each node does not pay for DNS resolution and connection setup.
+     * <p>
+     * This is entirely optional; channels are otherwise connected on first use. Nodes that do
+     * not connect in time are still used as normal afterwards.
+     *
+     * @param timeout how long to wait for all nodes.
+     * @param ping    if {@code true}, also send one free request to each node once connected,
+     *                so that a node is only reported reachable if it answers.
+     * @return a map of every node account ID to whether that node was reachable within the
+     * timeout.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Map<AccountId, Boolean> warmUp(Duration timeout, boolean ping) throws InterruptedException {
+        return network.warmUp(timeout, ping);
+    }
+
     /**
      * Set the account that will, by default, be paying for transactions and queries built with
      * this client, and the key with which to automatically sign transactions.
@@ -334,6 +639,26 @@ public final class Client implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Set a pool of operator accounts that take turns paying for transactions and queries built
+     * with this client, to raise the client's throughput past what the network allows a single
+     * payer.
+     * <p>
+     * While a non-empty pool is set, transactions without a transaction ID and query payments
+     * take their payer from the pool, round-robin, and are automatically signed with that
+     * payer's key; that includes the file query made by the address book refresh. The operator
+     * set with {@link #setOperator(AccountId, PrivateKey)} is still used where a single fixed
+     * payer is needed: chunked consensus messages. Transactions it pays for are signed
+     * automatically as before.
+     *
+     * @param operatorPool the pool, or {@code null} to pay with the single operator again.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setOperatorPool(@Nullable OperatorPool operatorPool) {
+        this.operatorPool = operatorPool;
+        return this;
+    }
+
     public long getMaxTransactionFee() {
         return maxTransactionFee;
     }
@@ -342,6 +667,63 @@ public final class Client implements AutoCloseable {
         return maxQueryPayment;
     }
 
+    public int getChannelPoolSize() {
+        return network.getChannelPoolSize();
+    }
+
+    /**
+     * Get the network this client sends its transactions and queries to, to create further
+     * clients sharing it with {@link #Client(Network)}.
+     */
+    public Network getNetwork() {
+        return network;
+    }
+
+    ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    @Nullable
+    Duration getAttemptTimeout() {
+        return attemptTimeout;
+    }
+
+    @Nullable
+    Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Generate a new transaction ID for a transaction paid for by {@code payer} and sent to
+     * {@code nodeId}.
+     *
+     * @see #setClockSkewEstimation(boolean)
+     */
+    TransactionId generateTransactionId(AccountId payer, @Nullable AccountId nodeId) {
+        Duration validStartOffset = TransactionId.DEFAULT_VALID_START_OFFSET;
+
+        final Node node = clockSkewEstimation && nodeId != null ? network.getNode(nodeId) : null;
+
+        if (node != null) {
+            validStartOffset = node.clockSkew.getValidStartOffset(validStartOffset);
+        }
+
+        return TransactionId.generate(payer, clock, validStartOffset);
+    }
+
+    @Nullable
+    InFlightLimiter getInFlightLimiter() {
+        return network.getInFlightLimiter();
+    }
+
     @Nullable
     public AccountId getOperatorId() {
         return operatorId;
@@ -357,30 +739,89 @@ public final class Client implements AutoCloseable {
         return operatorSigner;
     }
 
-    Node pickNode() {
-        if (nodes.isEmpty()) {
-            throw new IllegalStateException("List of channels has become empty");
-        }
+    /**
+     * Get the operator to pay for the next transaction or query: the next from the operator pool
+     * if there is one, otherwise the single operator.
+     *
+     * @return the operator, or {@code null} if none has been set.
+     */
+    @Nullable
+    OperatorPool.Operator nextOperator() {
+        final OperatorPool operatorPool = this.operatorPool;
+        final OperatorPool.Operator pooled = operatorPool != null ? operatorPool.next() : null;
+
+        return pooled != null ? pooled : getSingleOperator();
+    }
 
-        int r = random.nextInt(nodes.size());
-        Iterator<Node> channelIter = nodes.values()
-            .iterator();
+    /**
+     * Get the operator, pooled or single, that can sign for {@code payer}.
+     *
+     * @return the operator, or {@code null} if {@code payer} is not one of this client's.
+     */
+    @Nullable
+    OperatorPool.Operator getOperatorFor(AccountId payer) {
+        final OperatorPool.Operator single = getSingleOperator();
 
-        for (int i = 0; i < r; i++) {
-            channelIter.next();
+        if (single != null && single.accountId.equals(payer)) {
+            return single;
         }
 
-        return channelIter.next();
+        final OperatorPool operatorPool = this.operatorPool;
+
+        return operatorPool != null ? operatorPool.get(payer) : null;
     }
 
-    Node getNodeForId(AccountId node) {
-        Node selectedChannel = nodes.get(node);
+    /**
+     * Whether there is an operator, single or pooled, to pay for queries.
+     */
+    boolean hasOperator() {
+        final OperatorPool operatorPool = this.operatorPool;
+
+        return getSingleOperator() != null || (operatorPool != null && operatorPool.size() > 0);
+    }
 
-        if (selectedChannel == null) {
-            throw new IllegalArgumentException("Node Id does not exist");
+    @Nullable
+    private OperatorPool.Operator getSingleOperator() {
+        if (operatorId == null || operatorPublicKey == null || operatorSigner == null) {
+            return null;
         }
 
-        return selectedChannel;
+        return new OperatorPool.Operator(operatorId, operatorPublicKey, operatorSigner);
+    }
+
+    /**
+     * Pick the node to send a new transaction or query to, preferring nodes that have recently
+     * been fast and error-free and skipping nodes whose circuit breaker is open.
+     *
+     * @see NodeSelector
+     * @see CircuitBreaker
+     */
+    Node pickNode() {
+        return network.pickNode();
+    }
+
+    /**
+     * Pick a node as {@link #pickNode()} does, other than {@code exclude}.
+     *
+     * @return the node, or {@code null} if there is no other node in rotation.
+     */
+    @Nullable
+    Node pickNodeOtherThan(Node exclude) {
+        return pickNodeOtherThan(Collections.singleton(exclude));
+    }
+
+    /**
+     * Pick a node as {@link #pickNode()} does, other than any in {@code exclude}.
+     *
+     * @return the node, or {@code null} if there is no other node in rotation.
+     */
+    @Nullable
+    Node pickNodeOtherThan(Collection<Node> exclude) {
+        return network.pickNodeOtherThan(exclude);
+    }
+
+    Node getNodeForId(AccountId node) {
+        return network.getNodeForId(node);
     }
 
     @Deprecated
@@ -432,6 +873,9 @@ public final class Client implements AutoCloseable {
      * <p>
      * Any new transactions or queries executed with this client after this call will return an
      * error.
+     * <p>
+     * For a client created with {@link #Client(Network)} this only stops any address book
+     * refresh; the shared network's channels are left open.
      *
      * @param timeout  the timeout amount for the entire shutdown operation (not per channel).
      * @param timeUnit the unit of the timeout amount.
@@ -439,24 +883,10 @@ public final class Client implements AutoCloseable {
      * @throws TimeoutException     if the timeout elapses before all channels are shutdown.
      */
     public void close(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
-        final long startMs = System.currentTimeMillis();
-        final long timeoutAtMs = startMs + timeUnit.toMillis(timeout);
-
-        // go through and initiate shutdown for all channels; this shouldn't block
-        for (final Node node : nodes.values()) {
-            node.closeChannel();
-        }
-
-        // wait for all nodes to shutdown
-        for (final Node node : nodes.values()) {
-            if (timeoutAtMs <= System.currentTimeMillis()) {
-                throw new TimeoutException("Hedera Client timed out waiting for all node channels to shutdown");
-            }
-
-            final long nextTimeoutMs = timeoutAtMs - System.currentTimeMillis();
+        stopAddressBookRefresh();
 
-            // this also calls `.shutdown()` which should be safe to call multiple times
-            node.awaitChannelTermination(nextTimeoutMs, TimeUnit.MILLISECONDS);
+        if (ownsNetwork) {
+            network.close(timeout, timeUnit);
         }
     }
 
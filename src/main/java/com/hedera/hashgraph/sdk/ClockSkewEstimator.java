@@ -0,0 +1,84 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.annotation.Nullable;
+
+/**
+ * Estimates how far a {@link Node}'s clock is ahead of ours (negative if behind), to pick a
+ * transaction valid start the node will accept without giving away more of the transaction's
+ * valid duration than necessary.
+ * <p>
+ * Each sample is a consensus timestamp from a record the node served, against our time when the
+ * response arrived: the node's clock had passed the consensus timestamp by then, so the
+ * difference is a lower bound on the offset. The estimate is the tightest of the recent bounds.
+ */
+final class ClockSkewEstimator {
+    // number of recent samples kept; old samples age out so the estimate follows clock drift
+    private static final int SAMPLE_COUNT = 16;
+
+    // consensus time is the network's, not exactly the node's, so leave room for the difference
+    static final Duration MARGIN = Duration.ofSeconds(2);
+
+    private final long[] offsetNanos = new long[SAMPLE_COUNT];
+
+    private int sampleCount = 0;
+
+    private int nextSample = 0;
+
+    /**
+     * Record the consensus timestamp of a record the node served.
+     *
+     * @param consensusTime the consensus timestamp of the record.
+     * @param receivedAt    our time when the response arrived.
+     */
+    synchronized void recordConsensusTime(Instant consensusTime, Instant receivedAt) {
+        offsetNanos[nextSample] = Duration.between(receivedAt, consensusTime).toNanos();
+        nextSample = (nextSample + 1) % SAMPLE_COUNT;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_COUNT);
+    }
+
+    /**
+     * Forget every sample, e.g. after the node rejected a valid start chosen from them.
+     */
+    synchronized void reset() {
+        sampleCount = 0;
+        nextSample = 0;
+    }
+
+    /**
+     * Get the lower bound on the node's clock offset, or {@code null} if there are no samples.
+     */
+    @Nullable
+    synchronized Duration getOffset() {
+        if (sampleCount == 0) {
+            return null;
+        }
+
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < sampleCount; i++) {
+            max = Math.max(max, offsetNanos[i]);
+        }
+
+        return Duration.ofNanos(max);
+    }
+
+    /**
+     * Get how far before our current time to put the valid start of a transaction sent to the
+     * node: enough that the node accepts it, but no more than {@code defaultOffset}.
+     */
+    Duration getValidStartOffset(Duration defaultOffset) {
+        final Duration offset = getOffset();
+
+        if (offset == null) {
+            return defaultOffset;
+        }
+
+        // a node ahead of us still gets a valid start at least `MARGIN` in our past
+        final Duration validStartOffset = offset.isNegative() ? MARGIN.minus(offset) : MARGIN;
+
+        return validStartOffset.compareTo(defaultOffset) < 0 ? validStartOffset : defaultOffset;
+    }
+}
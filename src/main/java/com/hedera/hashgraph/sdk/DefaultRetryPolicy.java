@@ -0,0 +1,195 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+
+/**
+ * The {@link RetryPolicy} used unless another is set.
+ * <p>
+ * Retries whatever the call considers retryable, unless overridden for a status with
+ * {@link #setRetryable(Status, boolean)} or {@link #setRetryable(io.grpc.Status.Code, boolean)}.
+ * <p>
+ * Delays use decorrelated jitter: each delay is picked at random between the base delay and
+ * three times the previous delay, capped at the max delay. This spreads out the retries of calls
+ * that failed at the same time while still backing off roughly exponentially.
+ * <p>
+ * Retries of failures that point at an overloaded or unreachable network ({@link Status#Busy}
+ * and transport errors) are drawn from a {@link RetryBudget}; other retries, such as polling for
+ * a receipt that isn't available yet, are not.
+ */
+public final class DefaultRetryPolicy implements RetryPolicy {
+    private volatile Duration baseDelay = Duration.ofMillis(500);
+
+    private volatile Duration maxDelay = Duration.ofSeconds(8);
+
+    private volatile int maxAttempts = 0;
+
+    @Nullable
+    private volatile RetryBudget budget = new RetryBudget(100, 0.1);
+
+    private final Map<Status, Boolean> statusRules = new ConcurrentHashMap<>();
+
+    private final Map<io.grpc.Status.Code, Boolean> codeRules = new ConcurrentHashMap<>();
+
+    /**
+     * Set the shortest delay between attempts.
+     * <p>
+     * Defaults to 500 milliseconds.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setBaseDelay(Duration baseDelay) {
+        if (baseDelay.isNegative() || baseDelay.isZero()) {
+            throw new IllegalArgumentException("baseDelay must be positive");
+        }
+
+        if (baseDelay.compareTo(maxDelay) > 0) {
+            throw new IllegalArgumentException("baseDelay must not be greater than maxDelay");
+        }
+
+        this.baseDelay = baseDelay;
+        return this;
+    }
+
+    /**
+     * Set the longest delay between attempts.
+     * <p>
+     * Defaults to 8 seconds.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setMaxDelay(Duration maxDelay) {
+        if (maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must not be less than baseDelay");
+        }
+
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * Set the most attempts made for a single call, counting the first; this includes the
+     * attempts of a {@link TransactionReceiptQuery} polling for its receipt.
+     * <p>
+     * Defaults to 0, meaning attempts are limited only by the call's timeout.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 0) {
+            throw new IllegalArgumentException("maxAttempts must not be negative");
+        }
+
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Set the budget that retries after overload and transport failures are drawn from; share a
+     * budget between policies to share it between clients.
+     * <p>
+     * Defaults to a budget of 100 retries, refilled at 0.1 retries per successful call.
+     *
+     * @param budget the budget, or {@code null} to not limit retries this way.
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setRetryBudget(@Nullable RetryBudget budget) {
+        this.budget = budget;
+        return this;
+    }
+
+    /**
+     * Always, or never, retry a call that fails with the given status, regardless of whether
+     * the call considers it retryable.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setRetryable(Status status, boolean retryable) {
+        statusRules.put(status, retryable);
+        return this;
+    }
+
+    /**
+     * Always, or never, retry a call that fails with the given gRPC status code, regardless of
+     * whether the call considers it retryable.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setRetryable(io.grpc.Status.Code code, boolean retryable) {
+        codeRules.put(code, retryable);
+        return this;
+    }
+
+    @Nullable
+    public RetryBudget getRetryBudget() {
+        return budget;
+    }
+
+    @Nullable
+    @Override
+    public Duration getRetryDelay(int attempt, Duration previousDelay, HederaThrowable error, boolean retryable) {
+        final Boolean rule = getRule(error);
+
+        if (!(rule != null ? rule : retryable)) {
+            return null;
+        }
+
+        final int maxAttempts = this.maxAttempts;
+
+        if (maxAttempts != 0 && attempt >= maxAttempts) {
+            return null;
+        }
+
+        final RetryBudget budget = this.budget;
+
+        if (budget != null && isOverload(error) && !budget.tryWithdraw()) {
+            return null;
+        }
+
+        final long baseNanos = baseDelay.toNanos();
+        final long maxNanos = maxDelay.toNanos();
+        final long previousNanos = previousDelay.isZero() ? baseNanos : previousDelay.toNanos();
+
+        // between the base and three times the previous delay, without overflowing
+        final long upperNanos = Math.max(baseNanos, Math.min(maxNanos, previousNanos) * 3);
+        final long delayNanos = upperNanos > baseNanos
+            ? baseNanos + ThreadLocalRandom.current().nextLong(upperNanos - baseNanos)
+            : baseNanos;
+
+        return Duration.ofNanos(Math.min(maxNanos, delayNanos));
+    }
+
+    @Override
+    public void onSuccess() {
+        final RetryBudget budget = this.budget;
+
+        if (budget != null) {
+            budget.deposit();
+        }
+    }
+
+    @Nullable
+    private Boolean getRule(HederaThrowable error) {
+        if (error instanceof HederaStatusException) {
+            return statusRules.get(((HederaStatusException) error).status);
+        }
+
+        if (error instanceof HederaNetworkException) {
+            return codeRules.get(((HederaNetworkException) error).cause.getStatus().getCode());
+        }
+
+        return null;
+    }
+
+    private static boolean isOverload(HederaThrowable error) {
+        if (error instanceof HederaStatusException) {
+            return ((HederaStatusException) error).status == Status.Busy;
+        }
+
+        return error instanceof HederaNetworkException;
+    }
+}
@@ -6,13 +6,21 @@ import com.google.protobuf.ByteString;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
 import com.hedera.hashgraph.sdk.account.AccountId;
 import io.grpc.CallOptions;
-import io.grpc.Channel;
+import io.grpc.ClientCall;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ClientCalls;
 import io.grpc.stub.StreamObserver;
@@ -21,17 +29,41 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
     private @Nullable
     List<String> validationErrors;
 
-    private static final Duration RETRY_DELAY = Duration.ofMillis(500);
+    @Nullable
+    private Executor callbackExecutor;
+
+    @Nullable
+    private Duration attemptTimeout;
+
+    @Nullable
+    private RetryPolicy retryPolicy;
 
     protected abstract io.grpc.MethodDescriptor<Req, RawResp> getMethod();
 
     @Internal
     public abstract Req toProto();
 
-    protected abstract Channel getChannel(Client client);
+    /**
+     * Get the node this call should be sent to.
+     */
+    abstract Node getNode(Client client);
 
     protected abstract Resp mapResponse(RawResp raw) throws HederaStatusException;
 
+    /**
+     * Map the response to {@code request}, which is the request actually sent: the result of
+     * {@link #toProto()}, or of {@link #toProtoForHedge(Client, Node)} for a hedge.
+     */
+    Resp mapResponse(Req request, RawResp raw) throws HederaStatusException {
+        return mapResponse(raw);
+    }
+
+    /**
+     * Called with every successful response, along with the node that served it.
+     */
+    void onResponse(Client client, Node node, Resp response) {
+    }
+
     protected Duration getDefaultTimeout() {
         return Duration.ZERO;
     }
@@ -44,13 +76,73 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
         if (e instanceof HederaNetworkException) {
             io.grpc.Status status = ((HederaNetworkException) e).cause.getStatus();
 
-            // retry with backoff if the node is temporarily unavailable
-            return status == io.grpc.Status.UNAVAILABLE || status == io.grpc.Status.RESOURCE_EXHAUSTED;
+            // retry with backoff if the node is temporarily unavailable, or the attempt ran out of
+            // time; an attempt that runs out the overall timeout leaves no time to retry anyway
+            return status.getCode() == io.grpc.Status.Code.UNAVAILABLE
+                || status.getCode() == io.grpc.Status.Code.RESOURCE_EXHAUSTED
+                || status.getCode() == io.grpc.Status.Code.DEADLINE_EXCEEDED;
         }
 
         return false;
     }
 
+    /**
+     * How long to wait for a response from {@code node} before also sending this call to a
+     * second node, or {@code null} to not hedge the call.
+     */
+    @Nullable
+    Duration getHedgeDelay(Client client, Node node) {
+        return null;
+    }
+
+    /**
+     * Build the request to send to {@code node} as the second half of a hedged call.
+     */
+    Req toProtoForHedge(Client client, Node node) {
+        return toProto();
+    }
+
+    /**
+     * Set the executor that runs the callbacks passed to {@code executeAsync()}, and completes
+     * the future returned by {@code executeFuture()}, for this call; overrides
+     * {@link Client#setCallbackExecutor(Executor)}.
+     *
+     * @return {@code this} for fluent usage.
+     * @see CallbackExecutors
+     */
+    public T setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Set the deadline for each attempt of this call; overrides
+     * {@link Client#setAttemptTimeout(Duration)}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public T setAttemptTimeout(Duration attemptTimeout) {
+        this.attemptTimeout = attemptTimeout;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Set the policy deciding whether and when this call is retried; overrides
+     * {@link Client#setRetryPolicy(RetryPolicy)}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public T setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
     public Resp execute(Client client) throws HederaStatusException, HederaNetworkException {
         return execute(client, getDefaultTimeout());
     }
@@ -62,31 +154,377 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
         // N.B. only QueryBuilder used onPreExecute() so instead it should just override this
         // method instead
 
+        final Backoff backoff = new Backoff(getRetryPolicy(client), retryTimeout, client.getScheduler());
+
         final Backoff.FallibleProducer<Resp, HederaStatusException> tryProduce = () -> {
+            final Node node = getNode(client);
+            final AimdLimiter.Permit permit = admit(node);
+            final CallOptions callOptions;
+            final Duration hedgeDelay;
+
             try {
-                return mapResponse(ClientCalls.blockingUnaryCall(getChannel(client).newCall(getMethod(), CallOptions.DEFAULT), toProto()));
+                // the deadline runs from admission, not from when we started waiting for it
+                callOptions = getCallOptions(client, backoff);
+                hedgeDelay = getHedgeDelay(client, node);
+            } catch (RuntimeException e) {
+                permit.release(AimdLimiter.Outcome.IGNORED);
+                throw e;
+            }
+
+            if (hedgeDelay != null) {
+                return awaitHedged(client, node, permit, callOptions, hedgeDelay);
+            }
+
+            final long startNanos = node.beginCall();
+
+            @Nullable HederaThrowable error = null;
+
+            try {
+                final Req request = toProto();
+                final Resp response = mapResponse(request, ClientCalls.blockingUnaryCall(node.getChannel().newCall(getMethod(), callOptions), request));
+                onResponse(client, node, response);
+                return response;
             } catch (StatusRuntimeException e) {
-                throw new HederaNetworkException(e);
+                final HederaNetworkException networkException = new HederaNetworkException(e);
+                error = networkException;
+                throw networkException;
+            } catch (HederaStatusException e) {
+                error = e;
+                throw e;
+            } finally {
+                node.endCall(startNanos, error == null || isNodeHealthy(error));
+                permit.release(admissionOutcome(error));
             }
         };
 
-        return new Backoff(RETRY_DELAY, retryTimeout)
-            .tryWhile(this::shouldRetry, tryProduce);
+        final InFlightLimiter.Permit requestPermit = admitRequest(client);
+
+        try {
+            return backoff.tryWhile(e -> shouldRetryOn(client, e), () -> failOver(client), tryProduce);
+        } finally {
+            requestPermit.release();
+        }
     }
 
     public final void executeAsync(Client client, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
         executeAsync(client, getDefaultTimeout(), onSuccess, onError);
     }
 
-    public void executeAsync(Client client, Duration retryTimeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+    public final void executeAsync(Client client, Duration retryTimeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+        final Executor executor = getCallbackExecutor(client);
+
+        executeLimited(client, retryTimeout, runOn(executor, onSuccess), runOn(executor, onError), new Cancellation());
+    }
+
+    /**
+     * Execute this call asynchronously, returning a future for the response.
+     * <p>
+     * Cancelling the returned future (or completing it by any other means) stops the call: the
+     * gRPC call in flight is cancelled, a scheduled retry is dropped and no further attempts are
+     * made. Futures derived from it with {@code thenApply()} and the like do not pass
+     * cancellation back up to it.
+     *
+     * @throws LocalValidationException if the call fails local validation; this is thrown
+     *                                  directly rather than through the future.
+     */
+    public CompletableFuture<Resp> executeFuture(Client client) {
+        return executeFuture(client, getDefaultTimeout());
+    }
+
+    /**
+     * As {@link #executeFuture(Client)} with the given timeout for retries.
+     */
+    public CompletableFuture<Resp> executeFuture(Client client, Duration retryTimeout) {
+        final CompletableFuture<Resp> future = new CompletableFuture<>();
+        final Cancellation cancellation = new Cancellation();
+
+        // once the future is done there is nothing left to do the work for
+        future.whenComplete((response, e) -> cancellation.cancel());
+
+        final Executor executor = getCallbackExecutor(client);
+
+        executeLimited(client, retryTimeout, runOn(executor, future::complete),
+            runOn(executor, e -> future.completeExceptionally((Throwable) e)), cancellation);
+
+        return future;
+    }
+
+    /**
+     * Whether this call counts against the client-wide in-flight limit; calls made on behalf of
+     * another call return {@code false} so they can't wait on the permit of the call they serve.
+     */
+    boolean isInFlightLimited() {
+        return true;
+    }
+
+    /**
+     * Execute asynchronously once admitted by the client-wide in-flight limit.
+     */
+    private void executeLimited(Client client, Duration retryTimeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError, Cancellation cancellation) {
+        final InFlightLimiter limiter = isInFlightLimited() ? client.getInFlightLimiter() : null;
+
+        if (limiter == null) {
+            executeAsync(client, retryTimeout, onSuccess, onError, cancellation);
+            return;
+        }
+
+        final InFlightLimiter.Permit permit;
+
+        try {
+            // never block: this may be called from the scheduler or a callback, which the
+            // requests in flight need to complete and make room
+            permit = limiter.acquire(queued -> {
+                // admitted on the thread that released the permit making room, which is in the
+                // middle of completing another call; continue on the scheduler instead
+                client.getScheduler().execute(() -> {
+                    try {
+                        executeAdmitted(client, retryTimeout, onSuccess, onError, cancellation, queued);
+                    } catch (RuntimeException e) {
+                        if (!(e instanceof HederaThrowable)) throw e;
+
+                        onError.accept((HederaThrowable) e);
+                    }
+                });
+            }, onError, false);
+        } catch (InterruptedException e) {
+            // can't happen as we never block
+            throw new IllegalStateException(e);
+        }
+
+        if (permit != null) {
+            executeAdmitted(client, retryTimeout, onSuccess, onError, cancellation, permit);
+        }
+    }
+
+    private void executeAdmitted(
+        Client client,
+        Duration retryTimeout,
+        Consumer<Resp> onSuccess,
+        Consumer<HederaThrowable> onError,
+        Cancellation cancellation,
+        InFlightLimiter.Permit permit)
+    {
+        // a cancelled call may never call back, so the permit must be released on cancellation too
+        cancellation.addCleanup(permit::release);
+
+        if (cancellation.isCancelled()) return;
+
+        try {
+            // release before calling back so a follow-up request made from the callback has room
+            executeAsync(client, retryTimeout, response -> {
+                permit.release();
+                onSuccess.accept(response);
+            }, e -> {
+                permit.release();
+                onError.accept(e);
+            }, cancellation);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    private InFlightLimiter.Permit admitRequest(Client client) {
+        final InFlightLimiter limiter = isInFlightLimited() ? client.getInFlightLimiter() : null;
+
+        if (limiter == null) {
+            return InFlightLimiter.Permit.NONE;
+        }
+
+        try {
+            return limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    void executeAsync(Client client, Duration retryTimeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError, Cancellation cancellation) {
         // Run local validator just before execute
         localValidate();
 
-        final Consumer<Consumer<HederaThrowable>> executeCall = (onError2) -> ClientCalls.asyncUnaryCall(getChannel(client).newCall(getMethod(), CallOptions.DEFAULT), toProto(),
-            new CallStreamObserver(onSuccess, onError2));
+        final Backoff backoff = new Backoff(getRetryPolicy(client), retryTimeout, client.getScheduler());
+
+        final Consumer<Resp> onCallSuccess = response -> {
+            backoff.onSuccess();
+            onSuccess.accept(response);
+        };
+
+        final Consumer<Consumer<HederaThrowable>> executeCall = (onError2) -> {
+            final Node node = getNode(client);
+
+            node.admit(permit -> {
+                if (cancellation.isCancelled()) {
+                    permit.release(AimdLimiter.Outcome.IGNORED);
+                    return;
+                }
+
+                final CallOptions callOptions;
+                final Duration hedgeDelay;
+                final ClientCall<Req, RawResp> call;
+                final Req request;
+
+                try {
+                    callOptions = getCallOptions(client, backoff);
+                    hedgeDelay = getHedgeDelay(client, node);
+
+                    if (hedgeDelay != null) {
+                        final HedgedCall hedgedCall = new HedgedCall(client, node, callOptions, onCallSuccess, onError2);
+                        hedgedCall.start(permit, hedgeDelay);
+                        cancellation.setOnCancel(hedgedCall::cancel);
+                        return;
+                    }
+
+                    call = node.getChannel().newCall(getMethod(), callOptions);
+                    request = toProto();
+                } catch (RuntimeException e) {
+                    // the permit wasn't handed to a call, which would release it when done;
+                    // releasing it again is a no-op if it was
+                    permit.release(AimdLimiter.Outcome.IGNORED);
+                    throw e;
+                }
+
+                ClientCalls.asyncUnaryCall(call, request, new CallStreamObserver(client, node, permit, request, onCallSuccess, onError2));
+
+                // a call can only be cancelled once started
+                cancellation.setOnCancel(() -> call.cancel("cancelled by the caller", null));
+            }, onError2);
+        };
+
+        backoff.asyncTryWhile(e -> shouldRetryOn(client, e), () -> failOver(client), executeCall, onError, cancellation);
+    }
+
+    @Nullable
+    private Executor getCallbackExecutor(Client client) {
+        return callbackExecutor != null ? callbackExecutor : client.getCallbackExecutor();
+    }
 
-        new Backoff(RETRY_DELAY, retryTimeout)
-            .asyncTryWhile(this::shouldRetry, executeCall, onError);
+    private RetryPolicy getRetryPolicy(Client client) {
+        return retryPolicy != null ? retryPolicy : client.getRetryPolicy();
+    }
+
+    /**
+     * Wrap a user callback to run on the callback executor, or return it as-is to run directly
+     * on the thread that completes the call.
+     */
+    private static <V> Consumer<V> runOn(@Nullable Executor executor, Consumer<V> callback) {
+        if (executor == null) {
+            return callback;
+        }
+
+        return value -> executor.execute(() -> callback.accept(value));
+    }
+
+    private static AimdLimiter.Permit admit(Node node) {
+        try {
+            return node.admit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Get the options for the next attempt: its deadline is the attempt timeout or the time
+     * left in the overall timeout, whichever is sooner.
+     */
+    private CallOptions getCallOptions(Client client, Backoff backoff) {
+        Duration deadline = attemptTimeout != null ? attemptTimeout : client.getAttemptTimeout();
+
+        final Duration remaining = backoff.getRemaining();
+
+        // the first attempt is always made even if there is no time to retry
+        if (!remaining.isNegative() && !remaining.isZero()
+            && (deadline == null || remaining.compareTo(deadline) < 0))
+        {
+            deadline = remaining;
+        }
+
+        return deadline == null
+            ? CallOptions.DEFAULT
+            : CallOptions.DEFAULT.withDeadlineAfter(deadline.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Resp awaitHedged(Client client, Node node, AimdLimiter.Permit permit, CallOptions callOptions, Duration hedgeDelay) throws HederaStatusException {
+        final CompletableFuture<Resp> result = new CompletableFuture<>();
+
+        new HedgedCall(client, node, callOptions, result::complete, e -> result.completeExceptionally((Throwable) e))
+            .start(permit, hedgeDelay);
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof HederaStatusException) {
+                throw (HederaStatusException) cause;
+            }
+
+            // every other `HederaThrowable` is unchecked
+            throw (RuntimeException) cause;
+        }
+    }
+
+    private boolean shouldRetryOn(Client client, HederaThrowable e) {
+        // stop retrying against a node that its circuit breaker has taken out of rotation;
+        // calls that are free to move to another node will have done so in `getNode()`
+        return shouldRetry(e) && (canFailOver(client) || getNode(client).isAvailable());
+    }
+
+    /**
+     * Whether {@link #failOver(Client)} would move this call to a different node; this must not
+     * change the call, as the retry policy may yet decide against retrying.
+     */
+    boolean canFailOver(Client client) {
+        return false;
+    }
+
+    /**
+     * Move this call to a different node before it is retried, for calls that are tied to a
+     * single node by {@link #getNode(Client)}; does nothing if there is no node to move to.
+     */
+    void failOver(Client client) {
+    }
+
+    /**
+     * Whether a failed call reflects on the node that served it (as opposed to the request
+     * itself), for the purposes of {@link NodeHealth}.
+     */
+    private static boolean isNodeHealthy(HederaThrowable e) {
+        if (e instanceof HederaStatusException) {
+            return ((HederaStatusException) e).status != Status.Busy;
+        }
+
+        return !(e instanceof HederaNetworkException);
+    }
+
+    /**
+     * What the result of an attempt says about the network's capacity, for the purposes of
+     * {@link AimdLimiter}.
+     *
+     * @param e the error the attempt failed with, or {@code null} if it succeeded.
+     */
+    private static AimdLimiter.Outcome admissionOutcome(@Nullable HederaThrowable e) {
+        if (e == null) {
+            return AimdLimiter.Outcome.SUCCESS;
+        }
+
+        if (e instanceof HederaStatusException) {
+            // any other status means the node had the capacity to process the request
+            return ((HederaStatusException) e).status == Status.Busy
+                ? AimdLimiter.Outcome.OVERLOADED : AimdLimiter.Outcome.SUCCESS;
+        }
+
+        if (e instanceof HederaNetworkException
+            && ((HederaNetworkException) e).cause.getStatus().getCode() == io.grpc.Status.Code.RESOURCE_EXHAUSTED)
+        {
+            return AimdLimiter.Outcome.OVERLOADED;
+        }
+
+        return AimdLimiter.Outcome.IGNORED;
     }
 
     @VisibleForTesting
@@ -143,14 +581,170 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
         require(setValue != null && !setValue.isEmpty(), errMsg);
     }
 
+    /**
+     * One attempt of a call, sent to a second node if the first hasn't answered within a delay.
+     * The first answer wins and the other call is cancelled.
+     * <p>
+     * A transport error or retryable status from one node is only reported once the other has
+     * failed too (or if the second call was never sent).
+     */
+    private final class HedgedCall {
+        private final Client client;
+        private final Node primary;
+        private final CallOptions callOptions;
+        private final Consumer<Resp> onSuccess;
+        private final Consumer<HederaThrowable> onError;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final List<ClientCall<Req, RawResp>> calls = new CopyOnWriteArrayList<>();
+
+        // calls sent or still to be sent that haven't failed; starts with the primary and hedge
+        private final AtomicInteger outstanding = new AtomicInteger(2);
+
+        @Nullable
+        private volatile ScheduledFuture<?> hedge;
+
+        @Nullable
+        private volatile HederaThrowable lastError;
+
+        private HedgedCall(Client client, Node primary, CallOptions callOptions, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+            this.client = client;
+            this.primary = primary;
+            this.callOptions = callOptions;
+            this.onSuccess = onSuccess;
+            this.onError = onError;
+        }
+
+        void start(AimdLimiter.Permit permit, Duration delay) {
+            final Req request;
+
+            try {
+                // build the primary request first; the hedge may build its own concurrently
+                request = toProto();
+            } catch (RuntimeException e) {
+                permit.release(AimdLimiter.Outcome.IGNORED);
+                throw e;
+            }
+
+            hedge = ThreadUtil.schedule(client.getScheduler(), this::sendHedge, delay);
+            send(primary, permit, request);
+        }
+
+        private void sendHedge() {
+            final Node node = done.get() ? null : client.pickNodeOtherThan(primary);
+
+            // a hedge is extra load, so it is only sent if admission control has room for it
+            final AimdLimiter.Permit permit = node == null ? null : node.tryAdmit();
+
+            if (node == null || permit == null) {
+                // no hedge after all
+                onCallFailed();
+                return;
+            }
+
+            send(node, permit, toProtoForHedge(client, node));
+        }
+
+        private void send(Node node, AimdLimiter.Permit permit, Req request) {
+            final ClientCall<Req, RawResp> call = node.getChannel().newCall(getMethod(), callOptions);
+            calls.add(call);
+
+            // the other call may have won while this one was being set up
+            if (done.get()) {
+                permit.release(AimdLimiter.Outcome.IGNORED);
+                onCallFailed();
+                return;
+            }
+
+            ClientCalls.asyncUnaryCall(call, request, new CallStreamObserver(client, node, permit, request, this::onResponse, this::onFailure));
+        }
+
+        private void onResponse(Resp response) {
+            if (finish()) {
+                onSuccess.accept(response);
+            }
+        }
+
+        private void onFailure(HederaThrowable e) {
+            // a definitive answer from a node wins just like a response does
+            if (e instanceof HederaStatusException && !shouldRetry(e)) {
+                if (finish()) {
+                    onError.accept(e);
+                }
+
+                return;
+            }
+
+            lastError = e;
+
+            // if the hedge hasn't been sent yet, don't wait for it; report the failure so the
+            // attempt can be retried
+            final ScheduledFuture<?> hedge = this.hedge;
+
+            if (hedge != null && hedge.cancel(false)) {
+                onCallFailed();
+            }
+
+            onCallFailed();
+        }
+
+        private void onCallFailed() {
+            final HederaThrowable lastError = this.lastError;
+
+            if (outstanding.decrementAndGet() == 0 && lastError != null && finish()) {
+                onError.accept(lastError);
+            }
+        }
+
+        void cancel() {
+            finish();
+        }
+
+        /**
+         * Claim the result of this attempt and cancel whatever is still outstanding.
+         *
+         * @return {@code false} if another call already claimed it.
+         */
+        private boolean finish() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+
+            final ScheduledFuture<?> hedge = this.hedge;
+
+            if (hedge != null) {
+                hedge.cancel(false);
+            }
+
+            for (ClientCall<Req, RawResp> call : calls) {
+                call.cancel("hedged call answered by another node", null);
+            }
+
+            return true;
+        }
+    }
+
     private final class CallStreamObserver implements StreamObserver<RawResp> {
 
+        private final Client client;
+        private final Node node;
+        private final AimdLimiter.Permit permit;
+        private final long startNanos;
+
+        // the request this call answers
+        private final Req request;
+
         private final Consumer<Resp> onSuccess;
         private final Consumer<HederaThrowable> onError;
 
         private volatile boolean onNextCalled = false;
 
-        private CallStreamObserver(Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+        private CallStreamObserver(Client client, Node node, AimdLimiter.Permit permit, Req request, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+            this.client = client;
+            this.node = node;
+            this.permit = permit;
+            this.request = request;
+            this.startNanos = node.beginCall();
             this.onSuccess = onSuccess;
             this.onError = onError;
         }
@@ -160,12 +754,21 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
             if (onNextCalled) return;
             onNextCalled = true;
 
+            final Resp response;
+
             try {
-                Resp response = mapResponse(value);
-                onSuccess.accept(response);
+                response = mapResponse(request, value);
             } catch (HederaStatusException e) {
+                node.endCall(startNanos, isNodeHealthy(e));
+                permit.release(admissionOutcome(e));
                 onError.accept(e);
+                return;
             }
+
+            node.endCall(startNanos, true);
+            permit.release(AimdLimiter.Outcome.SUCCESS);
+            onResponse(client, node, response);
+            onSuccess.accept(response);
         }
 
         @Override
@@ -180,6 +783,17 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
                 throw new RuntimeException("unhandled exception type", t);
             }
 
+            if (t instanceof StatusRuntimeException
+                && ((StatusRuntimeException) t).getStatus().getCode() == io.grpc.Status.Code.CANCELLED)
+            {
+                // we cancelled the call ourselves so it says nothing about the node
+                node.cancelCall();
+                permit.release(AimdLimiter.Outcome.IGNORED);
+            } else {
+                node.endCall(startNanos, isNodeHealthy(exception));
+                permit.release(admissionOutcome(exception));
+            }
+
             onError.accept(exception);
         }
 
@@ -1,10 +1,10 @@
 package com.hedera.hashgraph.sdk;
 
 import com.hedera.hashgraph.proto.ResponseCodeEnum;
-import com.hedera.hashgraph.proto.TransactionGetRecordResponse;
 
 /**
- * A {@link HederaStatusException}, thrown on error status by {@link TransactionId#getRecord(Client)}.
+ * A {@link HederaStatusException}, thrown on error status by {@link TransactionId#getRecord(Client)}
+ * and {@link TransactionId#getFastRecord(Client)}.
  *
  * The record is included which could contain useful context for the error, such as errors
  * returned by {@link com.hedera.hashgraph.sdk.contract.ContractExecuteTransaction}.
@@ -28,13 +28,11 @@ public class HederaRecordStatusException extends HederaStatusException {
         this.transactionId = record.transactionId;
     }
 
-    static void throwIfExceptional(TransactionGetRecordResponse recordResponse) throws HederaRecordStatusException {
-        ResponseCodeEnum status = recordResponse.getTransactionRecord().getReceipt().getStatus();
+    static void throwIfExceptional(com.hedera.hashgraph.proto.TransactionRecord record) throws HederaRecordStatusException {
+        ResponseCodeEnum status = record.getReceipt().getStatus();
 
         if (isCodeExceptional(status)) {
-            throw new HederaRecordStatusException(
-                status,
-                new TransactionRecord(recordResponse.getTransactionRecord()));
+            throw new HederaRecordStatusException(status, new TransactionRecord(record));
         }
     }
 
@@ -8,6 +8,8 @@ package com.hedera.hashgraph.sdk;
  * <li> {@link HederaStatusException} </li>
  * <li> {@link HederaNetworkException}</li>
  * <li> {@link MaxQueryPaymentExceededException}</li> (thrown for queries)
+ * <li> {@link InFlightLimitExceededException}</li> (if {@link Client#setInFlightLimit(InFlightLimit)} is used)
+ * <li> {@link AddressBookParseException}</li> (from the address book refresh)
  * </ul>
  */
 public interface HederaThrowable {
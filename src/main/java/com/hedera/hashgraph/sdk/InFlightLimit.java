@@ -0,0 +1,131 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * Settings for {@link Client#setInFlightLimit(InFlightLimit)}, which bounds the number of
+ * transactions and queries a client has in flight so bursts run at a fixed memory footprint.
+ * <ul>
+ *     <li>The per-client limit counts requests from the call to {@code execute()},
+ *     {@code executeAsync()} or {@code executeFuture()} until the result is delivered,
+ *     including time spent waiting to retry.</li>
+ *     <li>The per-node limit counts the attempts currently sent to each node.</li>
+ * </ul>
+ * What happens to a request over either limit is set by {@link #setMode(Mode)}.
+ */
+public final class InFlightLimit {
+    public enum Mode {
+        /**
+         * Wait for room: {@code execute()} blocks the calling thread until an earlier request
+         * completes.
+         * <p>
+         * {@code executeAsync()} and {@code executeFuture()}, and attempts made from retries,
+         * are queued without bound instead and return immediately, as they may be called from
+         * the SDK's own threads, which the requests in flight need in order to complete.
+         */
+        BLOCK,
+
+        /**
+         * Fail with {@link InFlightLimitExceededException} straight away.
+         */
+        FAIL,
+
+        /**
+         * Queue the request, up to {@link #setMaxQueued(int)} requests, and fail with
+         * {@link InFlightLimitExceededException} once the queue is full. Asynchronous calls
+         * return immediately; {@code execute()} waits for its turn.
+         */
+        QUEUE,
+    }
+
+    private int maxInFlight = 0;
+
+    private int maxInFlightPerNode = 0;
+
+    private Mode mode = Mode.BLOCK;
+
+    private int maxQueued = 1000;
+
+    public InFlightLimit() { }
+
+    InFlightLimit(InFlightLimit other) {
+        maxInFlight = other.maxInFlight;
+        maxInFlightPerNode = other.maxInFlightPerNode;
+        mode = other.mode;
+        maxQueued = other.maxQueued;
+    }
+
+    /**
+     * Set the maximum number of requests in flight for the whole client, or 0 for no limit.
+     * <p>
+     * Defaults to 0.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public InFlightLimit setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 0) {
+            throw new IllegalArgumentException("maxInFlight must be >= 0");
+        }
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of attempts in flight to any one node, or 0 for no limit.
+     * <p>
+     * Defaults to 0.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public InFlightLimit setMaxInFlightPerNode(int maxInFlightPerNode) {
+        if (maxInFlightPerNode < 0) {
+            throw new IllegalArgumentException("maxInFlightPerNode must be >= 0");
+        }
+
+        this.maxInFlightPerNode = maxInFlightPerNode;
+        return this;
+    }
+
+    /**
+     * Set what happens to a request over the limit.
+     * <p>
+     * Defaults to {@link Mode#BLOCK}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public InFlightLimit setMode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of requests waiting for each limit in {@link Mode#QUEUE} mode.
+     * <p>
+     * Defaults to 1000.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public InFlightLimit setMaxQueued(int maxQueued) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must be >= 0");
+        }
+
+        this.maxQueued = maxQueued;
+        return this;
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    int getMaxInFlightPerNode() {
+        return maxInFlightPerNode;
+    }
+
+    Mode getMode() {
+        return mode;
+    }
+
+    int getMaxQueued() {
+        return maxQueued;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * Thrown, or passed to the error callback, when a request is over the limit set with
+ * {@link Client#setInFlightLimit(InFlightLimit)} and the limit's mode is
+ * {@link InFlightLimit.Mode#FAIL}, or is {@link InFlightLimit.Mode#QUEUE} and the queue is full.
+ * <p>
+ * The request was not sent.
+ */
+public final class InFlightLimitExceededException extends RuntimeException implements HederaThrowable {
+    /**
+     * The limit that was reached.
+     */
+    public final int maxInFlight;
+
+    InFlightLimitExceededException(int maxInFlight) {
+        super("more than " + maxInFlight + " requests in flight");
+        this.maxInFlight = maxInFlight;
+    }
+}
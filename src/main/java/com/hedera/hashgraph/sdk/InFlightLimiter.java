@@ -0,0 +1,196 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A fixed limit on the number of requests in flight.
+ *
+ * @see InFlightLimit
+ */
+final class InFlightLimiter {
+    private final int maxInFlight;
+    private final InFlightLimit.Mode mode;
+    private final int maxQueued;
+
+    private int inFlight = 0;
+
+    private int peakQueued = 0;
+
+    private long rejected = 0;
+
+    private final Queue<Consumer<Permit>> waiters = new ArrayDeque<>();
+
+    InFlightLimiter(int maxInFlight, InFlightLimit.Mode mode, int maxQueued) {
+        this.maxInFlight = maxInFlight;
+        this.mode = mode;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Wait until the request is admitted.
+     *
+     * @throws InFlightLimitExceededException if the limit is reached and the mode does not
+     *                                        allow waiting, or the queue is full.
+     */
+    Permit acquire() throws InterruptedException {
+        final CompletableFuture<Permit> admitted = new CompletableFuture<>();
+        final Consumer<Permit> waiter = permit -> {
+            if (!admitted.complete(permit)) {
+                // we stopped waiting
+                permit.release();
+            }
+        };
+
+        synchronized (this) {
+            if (tryAdmit()) {
+                return new Permit(this);
+            }
+
+            rejectOrQueue(waiter);
+        }
+
+        try {
+            return admitted.get();
+        } catch (InterruptedException e) {
+            synchronized (this) {
+                waiters.remove(waiter);
+            }
+
+            // if it's admitted after this `waiter` releases the permit; if it was admitted
+            // before, the permit is ours to release
+            if (!admitted.cancel(false)) {
+                admitted.join().release();
+            }
+
+            throw e;
+        } catch (ExecutionException e) {
+            // never completed exceptionally
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Admit the request now, or queue it to be admitted later, or reject it.
+     *
+     * @param onAdmittedLater called, on the thread releasing the permit that made room, if the
+     *                        request is queued.
+     * @param onRejected      called if the request is rejected.
+     * @param mayBlock        whether, in {@link InFlightLimit.Mode#BLOCK} mode, this may block
+     *                        the calling thread; otherwise the request is queued without bound.
+     * @return the permit if the request was admitted without queueing; otherwise {@code null}.
+     */
+    @Nullable
+    Permit acquire(Consumer<Permit> onAdmittedLater, Consumer<HederaThrowable> onRejected, boolean mayBlock) throws InterruptedException {
+        if (mayBlock && mode == InFlightLimit.Mode.BLOCK) {
+            return acquire();
+        }
+
+        try {
+            synchronized (this) {
+                if (tryAdmit()) {
+                    return new Permit(this);
+                }
+
+                rejectOrQueue(onAdmittedLater);
+                return null;
+            }
+        } catch (InFlightLimitExceededException e) {
+            onRejected.accept(e);
+            return null;
+        }
+    }
+
+    /**
+     * Admit the request if there is room right now, without waiting or counting a rejection.
+     *
+     * @return the permit, or {@code null} if the limit is reached.
+     */
+    @Nullable
+    synchronized Permit tryAcquire() {
+        return tryAdmit() ? new Permit(this) : null;
+    }
+
+    synchronized InFlightStats getStats() {
+        return new InFlightStats(inFlight, waiters.size(), peakQueued, rejected);
+    }
+
+    private boolean tryAdmit() {
+        if (!waiters.isEmpty() || inFlight >= maxInFlight) {
+            return false;
+        }
+
+        inFlight += 1;
+        return true;
+    }
+
+    private void rejectOrQueue(Consumer<Permit> waiter) {
+        final boolean mayQueue;
+
+        switch (mode) {
+            case BLOCK:
+                // bounded by the number of blocked threads, or by the requests already admitted
+                // by the client-wide limit for attempts that can't block
+                mayQueue = true;
+                break;
+            case QUEUE:
+                mayQueue = waiters.size() < maxQueued;
+                break;
+            default:
+                mayQueue = false;
+        }
+
+        if (!mayQueue) {
+            rejected += 1;
+            throw new InFlightLimitExceededException(maxInFlight);
+        }
+
+        waiters.add(waiter);
+        peakQueued = Math.max(peakQueued, waiters.size());
+    }
+
+    private void release() {
+        final Consumer<Permit> next;
+
+        synchronized (this) {
+            next = waiters.poll();
+
+            if (next == null) {
+                inFlight -= 1;
+                return;
+            }
+        }
+
+        // the slot passes straight to the next waiter
+        next.accept(new Permit(this));
+    }
+
+    /**
+     * The right to have one request in flight; releasing it more than once has no effect.
+     */
+    static final class Permit {
+        // released without a limiter when there is no limit
+        static final Permit NONE = new Permit(null);
+
+        @Nullable
+        private final InFlightLimiter limiter;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(@Nullable InFlightLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * A snapshot of one in-flight limit set with {@link Client#setInFlightLimit(InFlightLimit)}.
+ *
+ * @see Client#getInFlightStats()
+ * @see Client#getInFlightStats(com.hedera.hashgraph.sdk.account.AccountId)
+ */
+public final class InFlightStats {
+    /**
+     * The number of requests (or, for a node, attempts) currently admitted.
+     */
+    public final int inFlight;
+
+    /**
+     * The number of requests waiting to be admitted.
+     */
+    public final int queued;
+
+    /**
+     * The most requests that have been waiting at once.
+     */
+    public final int peakQueued;
+
+    /**
+     * The total number of requests failed with {@link InFlightLimitExceededException}.
+     */
+    public final long rejected;
+
+    InFlightStats(int inFlight, int queued, int peakQueued, long rejected) {
+        this.inFlight = inFlight;
+        this.queued = queued;
+        this.peakQueued = peakQueued;
+        this.rejected = rejected;
+    }
+
+    @Override
+    public String toString() {
+        return "InFlightStats{inFlight=" + inFlight + ", queued=" + queued
+            + ", peakQueued=" + peakQueued + ", rejected=" + rejected + "}";
+    }
+}
@@ -0,0 +1,425 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * The set of nodes, and the gRPC channels to them, that one or more {@link Client}s send their
+ * transactions and queries to.
+ * <p>
+ * A {@link Client} created with {@link Client#Client(Map)} or one of its factory methods gets a
+ * network of its own. Applications that act for many operators should instead create one
+ * {@code Network} and a {@link Client#Client(Network)} per operator on top of it: each such
+ * client carries only its operator, fee limits and call policies, while channels, node health,
+ * circuit breakers, admission control and in-flight limits are shared, so the number of
+ * connections stays the same however many clients there are.
+ * <p>
+ * Like {@link Client}, the network must be closed once it is no longer needed; closing a client
+ * created on a shared network leaves the network open.
+ */
+public final class Network implements AutoCloseable {
+    private final NodeSelector nodeSelector = new NodeSelector();
+
+    // concurrent so nodes can be replaced while calls are being routed
+    private final Map<AccountId, Node> nodes = new ConcurrentHashMap<>();
+
+    private int channelPoolSize = 1;
+
+    private ChannelOptions channelOptions = new ChannelOptions();
+
+    @Nullable
+    private InFlightLimit inFlightLimit;
+
+    // the network-wide limit from `inFlightLimit`, if any
+    @Nullable
+    private volatile InFlightLimiter inFlightLimiter;
+
+    @Nullable
+    private AdmissionControl admissionControl;
+
+    // the limiter given to every node unless admission control is per node
+    @Nullable
+    private AimdLimiter sharedLimiter;
+
+    @Nullable
+    private volatile QueryCostCache queryCostCache;
+
+    public Network(Map<AccountId, String> nodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("List of nodes must not be empty");
+        }
+
+        for (Map.Entry<AccountId, String> node : nodes.entrySet()) {
+            this.nodes.put(node.getKey(), newNode(node.getKey(), node.getValue()));
+        }
+    }
+
+    /**
+     * Get a Network of every known Hedera mainnet node.
+     */
+    public static Network forMainnet() {
+        final HashMap<AccountId, String> nodes = new HashMap<>();
+        nodes.put(new AccountId(3), "35.237.200.180:50211");
+        nodes.put(new AccountId(4), "35.186.191.247:50211");
+        nodes.put(new AccountId(5), "35.192.2.25:50211");
+        nodes.put(new AccountId(6), "35.199.161.108:50211");
+        nodes.put(new AccountId(7), "35.203.82.240:50211");
+        nodes.put(new AccountId(8), "35.236.5.219:50211");
+        nodes.put(new AccountId(9), "35.197.192.225:50211");
+        nodes.put(new AccountId(10), "35.242.233.154:50211");
+        nodes.put(new AccountId(11), "35.240.118.96:50211");
+        nodes.put(new AccountId(12), "35.204.86.32:50211");
+
+        return new Network(nodes);
+    }
+
+    /**
+     * Get a Network of the Hedera public testnet nodes.
+     */
+    public static Network forTestnet() {
+        final HashMap<AccountId, String> nodes = new HashMap<>();
+        nodes.put(new AccountId(3), "0.testnet.hedera.com:50211");
+        nodes.put(new AccountId(4), "1.testnet.hedera.com:50211");
+        nodes.put(new AccountId(5), "2.testnet.hedera.com:50211");
+        nodes.put(new AccountId(6), "3.testnet.hedera.com:50211");
+
+        return new Network(nodes);
+    }
+
+    /**
+     * Replace all nodes in this Network with a new set of nodes (e.g. for an Address Book update).
+     *
+     * @see Client#replaceNodes(Map)
+     * @return {@code this} for fluent API usage.
+     */
+    public synchronized Network replaceNodes(Map<AccountId, String> nodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("List of nodes must not be empty");
+        }
+
+        for (Iterator<Map.Entry<AccountId, Node>> it = this.nodes.entrySet().iterator(); it.hasNext();) {
+            final Map.Entry<AccountId, Node> entry = it.next();
+            final Node node = entry.getValue();
+            final String newNodeUrl = nodes.get(entry.getKey());
+
+            // node hasn't changed
+            if (node.address.equals(newNodeUrl)) {
+                continue;
+            }
+
+            // close node channel
+            node.closeChannel();
+
+            if (newNodeUrl != null) {
+                entry.setValue(newNode(entry.getKey(), newNodeUrl));
+            } else {
+                it.remove();
+            }
+        }
+
+        // add new nodes
+        for (Map.Entry<AccountId, String> node : nodes.entrySet()) {
+            this.nodes.computeIfAbsent(node.getKey(), nodeAcct -> newNode(nodeAcct, node.getValue()));
+        }
+
+        return this;
+    }
+
+    /**
+     * Set the number of gRPC channels (connections) opened to each node.
+     *
+     * @see Client#setChannelPoolSize(int)
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Network setChannelPoolSize(int channelPoolSize) {
+        if (channelPoolSize < 1) {
+            throw new IllegalArgumentException("channelPoolSize must be >= 1");
+        }
+
+        this.channelPoolSize = channelPoolSize;
+
+        for (Node node : nodes.values()) {
+            node.setChannelPoolSize(channelPoolSize);
+        }
+
+        return this;
+    }
+
+    /**
+     * Set the transport options for the gRPC channels opened to every node.
+     *
+     * @see Client#setChannelOptions(ChannelOptions)
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Network setChannelOptions(ChannelOptions channelOptions) {
+        this.channelOptions = new ChannelOptions(channelOptions);
+
+        for (Node node : nodes.values()) {
+            node.setChannelOptions(this.channelOptions);
+        }
+
+        return this;
+    }
+
+    /**
+     * Limit the number of transactions and queries in flight at once, across every client on
+     * this network and/or for each node.
+     *
+     * @see Client#setInFlightLimit(InFlightLimit)
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Network setInFlightLimit(@Nullable InFlightLimit inFlightLimit) {
+        this.inFlightLimit = inFlightLimit == null ? null : new InFlightLimit(inFlightLimit);
+        this.inFlightLimiter = this.inFlightLimit == null || this.inFlightLimit.getMaxInFlight() == 0
+            ? null
+            : new InFlightLimiter(
+                this.inFlightLimit.getMaxInFlight(),
+                this.inFlightLimit.getMode(),
+                this.inFlightLimit.getMaxQueued());
+
+        for (Node node : nodes.values()) {
+            node.setInFlightLimiter(newNodeInFlightLimiter());
+        }
+
+        return this;
+    }
+
+    /**
+     * Enable client-side congestion control for every client on this network.
+     *
+     * @see Client#setAdmissionControl(AdmissionControl)
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Network setAdmissionControl(@Nullable AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl == null ? null : new AdmissionControl(admissionControl);
+        this.sharedLimiter = this.admissionControl == null || this.admissionControl.isPerNode()
+            ? null : new AimdLimiter(this.admissionControl);
+
+        for (Node node : nodes.values()) {
+            node.setLimiter(newLimiter());
+        }
+
+        return this;
+    }
+
+    /**
+     * Remember the costs of queries for every client on this network.
+     *
+     * @see Client#setQueryCostCacheTtl(Duration)
+     * @return {@code this} for fluent usage.
+     */
+    public synchronized Network setQueryCostCacheTtl(@Nullable Duration ttl) {
+        if (ttl != null && ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+
+        this.queryCostCache = ttl == null || ttl.isZero() ? null : new QueryCostCache(ttl);
+        return this;
+    }
+
+    /**
+     * Get the current state of the network-wide in-flight limit.
+     *
+     * @return the stats, or {@code null} if there is no network-wide limit.
+     */
+    @Nullable
+    public InFlightStats getInFlightStats() {
+        final InFlightLimiter inFlightLimiter = this.inFlightLimiter;
+
+        return inFlightLimiter == null ? null : inFlightLimiter.getStats();
+    }
+
+    /**
+     * Get the current state of the in-flight limit for one node.
+     *
+     * @return the stats, or {@code null} if there is no per-node limit.
+     * @throws IllegalArgumentException if the node is not in this network.
+     */
+    @Nullable
+    public InFlightStats getInFlightStats(AccountId nodeId) {
+        final InFlightLimiter inFlightLimiter = getNodeForId(nodeId).getInFlightLimiter();
+
+        return inFlightLimiter == null ? null : inFlightLimiter.getStats();
+    }
+
+    /**
+     * Connect to every node in parallel ahead of time.
+     *
+     * @see Client#warmUp(Duration, boolean)
+     */
+    public Map<AccountId, Boolean> warmUp(Duration timeout, boolean ping) throws InterruptedException {
+        final Collection<Node> nodes = new ArrayList<>(this.nodes.values());
+        final Map<AccountId, Boolean> reachable = new ConcurrentHashMap<>();
+        final CountDownLatch remaining = new CountDownLatch(nodes.size());
+
+        for (Node node : nodes) {
+            reachable.put(node.accountId, false);
+        }
+
+        for (Node node : nodes) {
+            node.warmUp(timeout, ping, ok -> {
+                if (ok) {
+                    reachable.put(node.accountId, true);
+                }
+
+                remaining.countDown();
+            });
+        }
+
+        remaining.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        // copy so that nodes connecting after the timeout don't change the result
+        return new HashMap<>(reachable);
+    }
+
+    public synchronized int getChannelPoolSize() {
+        return channelPoolSize;
+    }
+
+    @Nullable
+    QueryCostCache getQueryCostCache() {
+        return queryCostCache;
+    }
+
+    @Nullable
+    InFlightLimiter getInFlightLimiter() {
+        return inFlightLimiter;
+    }
+
+    /**
+     * Pick the node to send a new transaction or query to, preferring nodes that have recently
+     * been fast and error-free and skipping nodes whose circuit breaker is open.
+     *
+     * @see NodeSelector
+     * @see CircuitBreaker
+     */
+    Node pickNode() {
+        final List<Node> available = nodes.values()
+            .stream()
+            .filter(Node::isAvailable)
+            .collect(Collectors.toList());
+
+        // if every node has been taken out of rotation, carry on with all of them rather than
+        // failing outright; the calls themselves will report any errors
+        return nodeSelector.select(available.isEmpty() ? new ArrayList<>(nodes.values()) : available);
+    }
+
+    /**
+     * Pick a node as {@link #pickNode()} does, other than any in {@code exclude}.
+     *
+     * @return the node, or {@code null} if there is no other node in rotation.
+     */
+    @Nullable
+    Node pickNodeOtherThan(Collection<Node> exclude) {
+        final List<Node> available = nodes.values()
+            .stream()
+            .filter(node -> !exclude.contains(node) && node.isAvailable())
+            .collect(Collectors.toList());
+
+        return available.isEmpty() ? null : nodeSelector.select(available);
+    }
+
+    Node getNodeForId(AccountId node) {
+        Node selectedChannel = nodes.get(node);
+
+        if (selectedChannel == null) {
+            throw new IllegalArgumentException("Node Id does not exist");
+        }
+
+        return selectedChannel;
+    }
+
+    @Nullable
+    Node getNode(AccountId node) {
+        return nodes.get(node);
+    }
+
+    private Node newNode(AccountId accountId, String address) {
+        final Node node = new Node(accountId, address, channelPoolSize, channelOptions);
+        node.setInFlightLimiter(newNodeInFlightLimiter());
+        node.setLimiter(newLimiter());
+        return node;
+    }
+
+    @Nullable
+    private InFlightLimiter newNodeInFlightLimiter() {
+        final InFlightLimit inFlightLimit = this.inFlightLimit;
+
+        if (inFlightLimit == null || inFlightLimit.getMaxInFlightPerNode() == 0) {
+            return null;
+        }
+
+        return new InFlightLimiter(
+            inFlightLimit.getMaxInFlightPerNode(),
+            inFlightLimit.getMode(),
+            inFlightLimit.getMaxQueued());
+    }
+
+    @Nullable
+    private AimdLimiter newLimiter() {
+        final AdmissionControl admissionControl = this.admissionControl;
+
+        if (admissionControl == null) {
+            return null;
+        }
+
+        return admissionControl.isPerNode() ? new AimdLimiter(admissionControl) : sharedLimiter;
+    }
+
+    /**
+     * Waits 10 seconds for all channels to finish their calls to their respective nodes.
+     *
+     * @see Client#close()
+     */
+    @Override
+    public void close() throws InterruptedException, TimeoutException {
+        close(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Wait for all channels to finish their calls to their respective nodes.
+     * <p>
+     * Any new transactions or queries executed with a client on this network after this call
+     * will return an error.
+     *
+     * @param timeout  the timeout amount for the entire shutdown operation (not per channel).
+     * @param timeUnit the unit of the timeout amount.
+     * @throws InterruptedException if the thread is interrupted during shutdown.
+     * @throws TimeoutException     if the timeout elapses before all channels are shutdown.
+     */
+    public void close(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
+        final long startMs = System.currentTimeMillis();
+        final long timeoutAtMs = startMs + timeUnit.toMillis(timeout);
+
+        // go through and initiate shutdown for all channels; this shouldn't block
+        for (final Node node : nodes.values()) {
+            node.closeChannel();
+        }
+
+        // wait for all nodes to shutdown
+        for (final Node node : nodes.values()) {
+            if (timeoutAtMs <= System.currentTimeMillis()) {
+                throw new TimeoutException("Hedera Network timed out waiting for all node channels to shutdown");
+            }
+
+            final long nextTimeoutMs = timeoutAtMs - System.currentTimeMillis();
+
+            // this also calls `.shutdown()` which should be safe to call multiple times
+            node.awaitChannelTermination(nextTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -1,57 +1,342 @@
 package com.hedera.hashgraph.sdk;
 
+import com.hedera.hashgraph.proto.NetworkGetVersionInfoQuery;
+import com.hedera.hashgraph.proto.NetworkServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.QueryHeader;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseType;
 import com.hedera.hashgraph.sdk.account.AccountId;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
 
 class Node {
 
     final AccountId accountId;
     final String address;
 
+    // how long a recovery probe may take before the node is considered still unreachable
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+
+    final NodeHealth health = new NodeHealth();
+
+    final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    final ClockSkewEstimator clockSkew = new ClockSkewEstimator();
+
+    private volatile int channelPoolSize;
+
+    private volatile ChannelOptions channelOptions;
+
+    // limit on the calls in flight to this node
+    @Nullable
+    private volatile InFlightLimiter inFlightLimiter = null;
+
+    // admission control for calls to this node; may be shared with other nodes
+    @Nullable
+    private volatile AimdLimiter limiter = null;
+
     // volatile is required for correct double-checked locking
     @Nullable
-    private volatile ManagedChannel channel = null;
+    private volatile ChannelPool channels = null;
 
-    Node(AccountId accountId, String address) {
+    Node(AccountId accountId, String address, int channelPoolSize, ChannelOptions channelOptions) {
         this.accountId = accountId;
         this.address = address;
+        this.channelPoolSize = channelPoolSize;
+        this.channelOptions = channelOptions;
+    }
+
+    Channel getChannel() {
+        return getChannels().next();
     }
 
-    ManagedChannel getChannel() {
-        if (channel == null) {
+    private ChannelPool getChannels() {
+        ChannelPool channels = this.channels;
+
+        if (channels == null) {
             synchronized (this) {
-                if (channel == null) {
-                    channel = ManagedChannelBuilder.forTarget(address)
-                        .usePlaintext()
-                        .build();
+                channels = this.channels;
+
+                if (channels == null) {
+                    channels = new ChannelPool(address, channelPoolSize, channelOptions);
+                    this.channels = channels;
                 }
             }
         }
 
-        return channel;
+        return channels;
+    }
+
+    /**
+     * Open and connect all channels to this node ahead of the first call.
+     *
+     * @param timeout  how long to wait for the ping, if requested.
+     * @param ping     also send a {@link #ping(Duration, Consumer)} once connected, to confirm the
+     *                 node is serving requests and not just accepting connections.
+     * @param onResult called with {@code true} once the node is ready; never called if the
+     *                 channels do not connect.
+     */
+    void warmUp(Duration timeout, boolean ping, Consumer<Boolean> onResult) {
+        getChannels().connect(() -> {
+            if (ping) {
+                ping(timeout, onResult);
+            } else {
+                onResult.accept(true);
+            }
+        });
+    }
+
+    /**
+     * Call {@code onAdmitted} once the in-flight limit and admission control allow another call
+     * to this node, or {@code onRejected} if the in-flight limit rejects it.
+     *
+     * @see InFlightLimiter#acquire(Consumer, Consumer, boolean)
+     * @see AimdLimiter#acquire(Consumer)
+     */
+    void admit(Consumer<AimdLimiter.Permit> onAdmitted, Consumer<HederaThrowable> onRejected) {
+        final InFlightLimiter inFlightLimiter = this.inFlightLimiter;
+
+        if (inFlightLimiter == null) {
+            admitAimd(onAdmitted);
+            return;
+        }
+
+        final Consumer<InFlightLimiter.Permit> onInFlightAdmitted =
+            inFlight -> admitAimd(permit -> onAdmitted.accept(withInFlight(permit, inFlight)));
+
+        final InFlightLimiter.Permit inFlight;
+
+        try {
+            inFlight = inFlightLimiter.acquire(onInFlightAdmitted, onRejected, false);
+        } catch (InterruptedException e) {
+            // can't happen as we never block
+            throw new IllegalStateException(e);
+        }
+
+        if (inFlight != null) {
+            onInFlightAdmitted.accept(inFlight);
+        }
+    }
+
+    private void admitAimd(Consumer<AimdLimiter.Permit> onAdmitted) {
+        final AimdLimiter limiter = this.limiter;
+
+        if (limiter == null) {
+            onAdmitted.accept(AimdLimiter.Permit.NONE);
+        } else {
+            limiter.acquire(onAdmitted);
+        }
+    }
+
+    /**
+     * Wait until the in-flight limit and admission control allow another call to this node.
+     *
+     * @throws InFlightLimitExceededException if the in-flight limit rejects the call.
+     */
+    AimdLimiter.Permit admit() throws InterruptedException {
+        final InFlightLimiter inFlightLimiter = this.inFlightLimiter;
+        final InFlightLimiter.Permit inFlight = inFlightLimiter == null
+            ? InFlightLimiter.Permit.NONE : inFlightLimiter.acquire();
+
+        final AimdLimiter limiter = this.limiter;
+
+        try {
+            final AimdLimiter.Permit permit = limiter == null ? AimdLimiter.Permit.NONE : limiter.acquire();
+            return withInFlight(permit, inFlight);
+        } catch (InterruptedException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Admit another call to this node only if that is possible without waiting.
+     *
+     * @return the permit, or {@code null} if the call would have to wait.
+     */
+    @Nullable
+    AimdLimiter.Permit tryAdmit() {
+        final InFlightLimiter inFlightLimiter = this.inFlightLimiter;
+        final InFlightLimiter.Permit inFlight = inFlightLimiter == null
+            ? InFlightLimiter.Permit.NONE : inFlightLimiter.tryAcquire();
+
+        if (inFlight == null) {
+            return null;
+        }
+
+        final AimdLimiter limiter = this.limiter;
+        final AimdLimiter.Permit permit = limiter == null ? AimdLimiter.Permit.NONE : limiter.tryAcquire();
+
+        if (permit == null) {
+            inFlight.release();
+            return null;
+        }
+
+        return withInFlight(permit, inFlight);
+    }
+
+    private static AimdLimiter.Permit withInFlight(AimdLimiter.Permit permit, InFlightLimiter.Permit inFlight) {
+        return inFlight == InFlightLimiter.Permit.NONE ? permit : permit.andThen(inFlight::release);
+    }
+
+    void setInFlightLimiter(@Nullable InFlightLimiter inFlightLimiter) {
+        this.inFlightLimiter = inFlightLimiter;
+    }
+
+    @Nullable
+    InFlightLimiter getInFlightLimiter() {
+        return inFlightLimiter;
+    }
+
+    void setLimiter(@Nullable AimdLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Nullable
+    AimdLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Record that a call to this node has started.
+     *
+     * @return the start time of the call, to be passed back to {@link #endCall(long, boolean)}.
+     */
+    long beginCall() {
+        return health.beginCall();
+    }
+
+    /**
+     * Record the outcome of a call started with {@link #beginCall()}.
+     *
+     * @see NodeHealth#endCall(long, boolean)
+     */
+    void endCall(long startNanos, boolean healthy) {
+        health.endCall(startNanos, healthy);
+
+        if (healthy) {
+            circuitBreaker.recordSuccess();
+        } else {
+            circuitBreaker.recordFailure();
+        }
+    }
+
+    /**
+     * Record that a call started with {@link #beginCall()} was cancelled by the SDK, e.g. the
+     * losing half of a hedged query.
+     */
+    void cancelCall() {
+        health.cancelCall();
+    }
+
+    /**
+     * Whether new work may be sent to this node, i.e. its circuit breaker is closed.
+     * <p>
+     * If the breaker's cooldown has elapsed this starts a background probe of the node which
+     * will close the breaker if the node answers.
+     */
+    boolean isAvailable() {
+        if (circuitBreaker.tryBeginProbe()) {
+            ping(PROBE_TIMEOUT, circuitBreaker::endProbe);
+        }
+
+        return circuitBreaker.isClosed();
+    }
+
+    /**
+     * Send the cheapest possible request to this node: a {@code COST_ANSWER} for
+     * {@code NetworkService.getVersionInfo} with no payment.
+     * <p>
+     * Any response at all, even a failing precheck, means the node is reachable and serving.
+     *
+     * @param onResult called with {@code true} if the node responded within the timeout.
+     */
+    void ping(Duration timeout, Consumer<Boolean> onResult) {
+        final Query query = Query.newBuilder()
+            .setNetworkGetVersionInfo(NetworkGetVersionInfoQuery.newBuilder()
+                .setHeader(QueryHeader.newBuilder()
+                    .setResponseType(ResponseType.COST_ANSWER)))
+            .build();
+
+        final ClientCall<Query, Response> call = getChannel().newCall(
+            NetworkServiceGrpc.getGetVersionInfoMethod(),
+            CallOptions.DEFAULT.withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS));
+
+        ClientCalls.asyncUnaryCall(call, query, new StreamObserver<Response>() {
+            @Override
+            public void onNext(Response value) {
+                onResult.accept(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                onResult.accept(false);
+            }
+
+            @Override
+            public void onCompleted() {
+                // we don't care about this callback
+            }
+        });
+    }
+
+    /**
+     * Change the number of channels opened to this node.
+     * <p>
+     * If channels are already open they are shut down, letting their in-flight calls finish, and
+     * a new pool of the given size is opened on the next call.
+     */
+    synchronized void setChannelPoolSize(int channelPoolSize) {
+        if (channelPoolSize == this.channelPoolSize) return;
+
+        this.channelPoolSize = channelPoolSize;
+        resetChannels();
+    }
+
+    /**
+     * Change the options channels to this node are opened with; open channels are replaced as in
+     * {@link #setChannelPoolSize(int)}.
+     */
+    synchronized void setChannelOptions(ChannelOptions channelOptions) {
+        this.channelOptions = channelOptions;
+        resetChannels();
+    }
+
+    private synchronized void resetChannels() {
+        final ChannelPool channels = this.channels;
+        this.channels = null;
+
+        if (channels != null) {
+            channels.shutdown();
+        }
     }
 
     void closeChannel() {
-        // because `channel` is volatile, we have to explicitly load it so we can null-check it
+        // because `channels` is volatile, we have to explicitly load it so we can null-check it
         // otherwise it could be set to `null` between when we checked it and when we used it
-        final ManagedChannel channel = this.channel;
+        final ChannelPool channels = this.channels;
 
-        if (channel != null) {
-            channel.shutdown();
+        if (channels != null) {
+            channels.shutdown();
         }
     }
 
     void awaitChannelTermination(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
-        final ManagedChannel channel = this.channel;
+        final ChannelPool channels = this.channels;
 
-        if (channel != null && channel.shutdown().awaitTermination(timeout, timeUnit)) {
+        if (channels != null && !channels.awaitTermination(timeout, timeUnit)) {
             throw new TimeoutException("Timed out waiting for node channel to shutdown: "
                 + accountId + " :: " + address);
         }
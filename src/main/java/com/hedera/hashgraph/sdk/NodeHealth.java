@@ -0,0 +1,139 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * Running health statistics for a single {@link Node}, fed from the outcome of every call
+ * made to it and consumed by {@link NodeSelector}.
+ * <p>
+ * Latency and error rate are exponentially weighted moving averages so that a node which has
+ * recovered (or degraded) is reflected in its score within a few calls.
+ */
+final class NodeHealth {
+    // weight given to the newest sample in the moving averages
+    private static final double ALPHA = 0.2;
+
+    // floor on the success rate used for scoring so a fully failing node has a finite score
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    // number of recent latencies kept for percentiles
+    private static final int SAMPLE_COUNT = 64;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // ring buffer of recent latencies in nanoseconds; `sampleIndex` counts every sample written
+    private final AtomicLongArray latencySamples = new AtomicLongArray(SAMPLE_COUNT);
+    private final AtomicLong sampleIndex = new AtomicLong();
+
+    // doubles stored as raw long bits so they can be updated without locking
+    private final AtomicLong latencyMillis = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicLong errorRate = new AtomicLong(Double.doubleToLongBits(0));
+
+    /**
+     * Record that a call to the node has started.
+     *
+     * @return the start time of the call, to be passed back to {@link #endCall(long, boolean)}.
+     */
+    long beginCall() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record the outcome of a call started with {@link #beginCall()}.
+     *
+     * @param startNanos the value returned from {@link #beginCall()}.
+     * @param healthy    {@code false} if the node failed to serve the call (transport error or
+     *                   {@code BUSY}); status codes that reflect on the request itself count as
+     *                   healthy.
+     */
+    void endCall(long startNanos, boolean healthy) {
+        inFlight.decrementAndGet();
+
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final double elapsedMillis = (double) elapsedNanos / TimeUnit.MILLISECONDS.toNanos(1);
+
+        update(latencyMillis, elapsedMillis);
+        update(errorRate, healthy ? 0 : 1);
+
+        latencySamples.set((int) (sampleIndex.getAndIncrement() % SAMPLE_COUNT), elapsedNanos);
+    }
+
+    /**
+     * Record that a call started with {@link #beginCall()} was cancelled by us; it says nothing
+     * about the node so only the in-flight count is updated.
+     */
+    void cancelCall() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Get the given percentile of the node's recent call latencies.
+     *
+     * @param percentile between 0 and 100.
+     * @param minSamples the fewest samples that give a meaningful answer.
+     * @return the latency, or {@code null} if fewer than {@code minSamples} calls have completed.
+     */
+    @Nullable
+    Duration getLatencyPercentile(double percentile, int minSamples) {
+        final int count = (int) Math.min(sampleIndex.get(), SAMPLE_COUNT);
+
+        if (count == 0 || count < minSamples) {
+            return null;
+        }
+
+        final long[] samples = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            samples[i] = latencySamples.get(i);
+        }
+
+        Arrays.sort(samples);
+
+        final int index = (int) Math.ceil(percentile / 100 * count) - 1;
+
+        return Duration.ofNanos(samples[Math.max(0, Math.min(index, count - 1))]);
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    double getLatencyMillis() {
+        return Double.longBitsToDouble(latencyMillis.get());
+    }
+
+    double getErrorRate() {
+        return Double.longBitsToDouble(errorRate.get());
+    }
+
+    /**
+     * The expected cost of sending one more call to this node; lower is better.
+     * <p>
+     * A node that has not been used yet has no latency and so is preferred until it has been
+     * sampled at least once.
+     */
+    double score() {
+        final double successRate = Math.max(MIN_SUCCESS_RATE, 1 - getErrorRate());
+
+        return (getLatencyMillis() + 1) * (getInFlight() + 1) / successRate;
+    }
+
+    private static void update(AtomicLong average, double sample) {
+        for (;;) {
+            final long current = average.get();
+            final double next = ALPHA * sample + (1 - ALPHA) * Double.longBitsToDouble(current);
+
+            if (average.compareAndSet(current, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
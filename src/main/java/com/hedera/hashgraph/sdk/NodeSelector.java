@@ -0,0 +1,39 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the node to send a new transaction or query to.
+ * <p>
+ * Uses "power of two choices": two distinct nodes are drawn at random and the one with the
+ * better {@link NodeHealth#score()} wins. This routes traffic away from slow or failing nodes
+ * without the herding that always picking the single best node would cause.
+ */
+final class NodeSelector {
+    Node select(List<Node> nodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("List of channels has become empty");
+        }
+
+        final int size = nodes.size();
+
+        if (size == 1) {
+            return nodes.get(0);
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+
+        // draw the second index from the remaining nodes so the two are always distinct
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second += 1;
+        }
+
+        final Node a = nodes.get(first);
+        final Node b = nodes.get(second);
+
+        return a.health.score() <= b.health.score() ? a : b;
+    }
+}
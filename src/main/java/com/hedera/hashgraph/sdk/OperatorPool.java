@@ -0,0 +1,96 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.PrivateKey;
+import com.hedera.hashgraph.sdk.crypto.PublicKey;
+import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * A set of operator accounts for {@link Client#setOperatorPool(OperatorPool)} that take turns
+ * paying for transactions and queries.
+ * <p>
+ * The network throttles transactions per payer, and each payer has its own sequence of
+ * transaction IDs, so spreading transactions over several payers lets a single client submit
+ * proportionally more of them.
+ */
+public final class OperatorPool {
+    private final List<Operator> operators = new CopyOnWriteArrayList<>();
+
+    private final Map<AccountId, Operator> operatorsById = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * Add an operator account and the key with which to automatically sign transactions it
+     * pays for.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public OperatorPool add(AccountId accountId, PrivateKey<? extends PublicKey> privateKey) {
+        return addWith(accountId, privateKey.publicKey, privateKey::sign);
+    }
+
+    /**
+     * Add an operator account and a callback that will be invoked when a transaction it pays for
+     * needs to be signed.
+     *
+     * @return {@code this} for fluent usage.
+     * @see TransactionSigner
+     */
+    public OperatorPool addWith(AccountId accountId, PublicKey publicKey, TransactionSigner signer) {
+        final Operator operator = new Operator(accountId, publicKey, signer);
+
+        if (operatorsById.putIfAbsent(accountId, operator) != null) {
+            throw new IllegalArgumentException("operator already in pool: " + accountId);
+        }
+
+        operators.add(operator);
+        return this;
+    }
+
+    public int size() {
+        return operators.size();
+    }
+
+    /**
+     * Get the operator to pay for the next transaction or query, taking turns round-robin.
+     *
+     * @return the operator, or {@code null} if the pool is empty.
+     */
+    @Nullable
+    Operator next() {
+        // operators are only ever added, so any index below this stays valid
+        final int size = operators.size();
+
+        if (size == 0) {
+            return null;
+        }
+
+        return operators.get(Math.floorMod(nextIndex.getAndIncrement(), size));
+    }
+
+    @Nullable
+    Operator get(AccountId accountId) {
+        return operatorsById.get(accountId);
+    }
+
+    static final class Operator {
+        final AccountId accountId;
+        final PublicKey publicKey;
+        final TransactionSigner signer;
+
+        Operator(AccountId accountId, PublicKey publicKey, TransactionSigner signer) {
+            this.accountId = accountId;
+            this.publicKey = publicKey;
+            this.signer = signer;
+        }
+    }
+}
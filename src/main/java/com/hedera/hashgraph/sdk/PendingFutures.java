@@ -0,0 +1,67 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+/**
+ * The futures given out for one result that several callers may be waiting for, e.g. the
+ * receipt of a transaction ID that was asked for more than once.
+ * <p>
+ * Once completed no more futures are given out, so a caller that finds this in a map just as it
+ * completes knows to start again instead of waiting forever.
+ */
+class PendingFutures<T> {
+    // guarded by `this`
+    private final List<CompletableFuture<T>> futures = new ArrayList<>();
+
+    // guarded by `this`
+    private boolean finished = false;
+
+    /**
+     * @return a future for the result, or {@code null} if it has already been completed.
+     */
+    @Nullable
+    final synchronized CompletableFuture<T> newFuture() {
+        if (finished) {
+            return null;
+        }
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        futures.add(future);
+        return future;
+    }
+
+    /**
+     * Whether any future is still waiting for the result; {@code false} once every caller has
+     * cancelled.
+     */
+    final synchronized boolean isWanted() {
+        for (CompletableFuture<T> future : futures) {
+            if (!future.isDone()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    final void complete(T result) {
+        for (CompletableFuture<T> future : finish()) {
+            future.complete(result);
+        }
+    }
+
+    final void fail(Throwable error) {
+        for (CompletableFuture<T> future : finish()) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private synchronized List<CompletableFuture<T>> finish() {
+        finished = true;
+        return new ArrayList<>(futures);
+    }
+}
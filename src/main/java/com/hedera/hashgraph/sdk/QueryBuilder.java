@@ -1,5 +1,6 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.proto.AccountAmount;
 import com.hedera.hashgraph.proto.Query;
@@ -11,8 +12,6 @@ import com.hedera.hashgraph.proto.ResponseType;
 import com.hedera.hashgraph.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.account.AccountId;
 import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
-import com.hedera.hashgraph.sdk.crypto.PublicKey;
-import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
 
 import java.time.Duration;
 import java.util.List;
@@ -21,7 +20,6 @@ import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
-import io.grpc.Channel;
 import io.grpc.MethodDescriptor;
 
 public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extends HederaCall<Query, Response, Resp, T> {
@@ -36,16 +34,26 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
     private long paymentAmount;
     private long maxPayment = 0;
 
+    // whether the payment was generated from the client's operator rather than set explicitly
+    private boolean paymentGenerated = false;
+
+    // fewest latencies observed for a node before `hedgePercentile` is used
+    private static final int MIN_HEDGE_SAMPLES = 20;
+
+    @Nullable
+    private Duration hedgeDelay;
+
+    // zero if not set
+    private double hedgePercentile = 0;
+
+    private boolean hedgePaidQuery = false;
+
     protected QueryBuilder() { }
 
     protected abstract QueryHeader.Builder getHeaderBuilder();
 
     @Override
-    protected Channel getChannel(Client client) {
-        return getNode(client).getChannel();
-    }
-
-    private Node getNode(Client client) {
+    Node getNode(Client client) {
         if (nodeId == null && getHeaderBuilder().hasPayment()) {
             TransactionBody paymentBody;
 
@@ -68,12 +76,18 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
         }
 
         if (nodeId != null) {
-            return client.getNodeForId(nodeId);
-        } else {
-            Node node = client.pickNode();
-            nodeId = node.accountId;
-            return node;
+            final Node node = client.getNodeForId(nodeId);
+
+            // without a payment we're not tied to the node so we can move off one that has been
+            // taken out of rotation (e.g. when retrying)
+            if (getHeaderBuilder().hasPayment() || node.isAvailable()) {
+                return node;
+            }
         }
+
+        Node node = client.pickNode();
+        nodeId = node.accountId;
+        return node;
     }
 
     private long getMaxPayment(Client client) {
@@ -84,7 +98,11 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
     @Override
     public final Query toProto() {
         localValidate();
-        return inner.build();
+
+        // the payment may be swapped out briefly to build the request for a hedge
+        synchronized (inner) {
+            return inner.build();
+        }
     }
 
     public T setMaxQueryPayment(Hbar maxPayment) {
@@ -151,21 +169,126 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
     }
 
     private void generatePayment(Client client) {
-        if (isPaymentRequired() && !getHeaderBuilder().hasPayment()
-            && client.getOperatorId() != null && client.getOperatorSigner() != null
-            && client.getOperatorPublicKey() != null)
-        {
-            AccountId operatorId = client.getOperatorId();
-            AccountId nodeId = getNode(client).accountId;
-            Transaction txPayment = new CryptoTransferTransaction()
-                .setNodeAccountId(nodeId)
-                .setTransactionId(new TransactionId(operatorId))
-                .addSender(operatorId, paymentAmount)
-                .addRecipient(nodeId, paymentAmount)
-                .build(client)
-                .signWith(client.getOperatorPublicKey(), client.getOperatorSigner());
+        if (!isPaymentRequired() || getHeaderBuilder().hasPayment()) {
+            return;
+        }
+
+        // spread payments over the operator pool if there is one
+        final OperatorPool.Operator operator = client.nextOperator();
+
+        if (operator != null) {
+            setPaymentTransaction(newPayment(client, operator, getNode(client).accountId));
+            paymentGenerated = true;
+        }
+    }
+
+    private Transaction newPayment(Client client, OperatorPool.Operator operator, AccountId nodeId) {
+        return new CryptoTransferTransaction()
+            .setNodeAccountId(nodeId)
+            .setTransactionId(client.generateTransactionId(operator.accountId, nodeId))
+            .addSender(operator.accountId, paymentAmount)
+            .addRecipient(nodeId, paymentAmount)
+            .build(client)
+            .signWith(operator.publicKey, operator.signer);
+    }
+
+    /**
+     * Hedge this query: if the node it is sent to hasn't answered after {@code delay}, send it to
+     * a second node as well. The first answer is used and the other call is cancelled.
+     * <p>
+     * This trades extra requests for lower tail latency when a node is slow. Queries that cost a
+     * non-zero payment are only hedged if {@link #setHedgePaidQuery(boolean)} is also set, as
+     * every hedge pays the second node too. Queries with a payment set by
+     * {@link #setPaymentTransaction(Transaction)} are never hedged.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public T setHedgeDelay(Duration delay) {
+        this.hedgeDelay = delay;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Hedge this query as in {@link #setHedgeDelay(Duration)}, with the delay taken from the
+     * given percentile of the recent latencies of the node it is sent to (e.g. {@code 95}).
+     * <p>
+     * Until enough latencies have been observed for the node, the delay set with
+     * {@link #setHedgeDelay(Duration)} is used if set, otherwise the query is not hedged.
+     *
+     * @param percentile greater than 0 and at most 100.
+     * @return {@code this} for fluent usage.
+     */
+    public T setHedgePercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be > 0 and <= 100");
+        }
+
+        this.hedgePercentile = percentile;
 
-            setPaymentTransaction(txPayment);
+        //noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Allow this query to be hedged even though it costs a payment, which means each hedge
+     * pays a second node as well.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public T setHedgePaidQuery(boolean hedgePaidQuery) {
+        this.hedgePaidQuery = hedgePaidQuery;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
+    @Nullable
+    @Override
+    Duration getHedgeDelay(Client client, Node node) {
+        if (hedgeDelay == null && hedgePercentile == 0) {
+            return null;
+        }
+
+        if (getHeaderBuilder().hasPayment()) {
+            // we can only pay a second node if we're the ones paying the first
+            if (!paymentGenerated || (paymentAmount > 0 && !hedgePaidQuery)) {
+                return null;
+            }
+        }
+
+        if (hedgePercentile > 0) {
+            final Duration observed = node.health.getLatencyPercentile(hedgePercentile, MIN_HEDGE_SAMPLES);
+
+            if (observed != null) {
+                return observed;
+            }
+        }
+
+        return hedgeDelay;
+    }
+
+    @Override
+    Query toProtoForHedge(Client client, Node node) {
+        if (!getHeaderBuilder().hasPayment()) {
+            return toProto();
+        }
+
+        // we only hedge payments we generated, so there is an operator
+        final OperatorPool.Operator operator = Objects.requireNonNull(client.nextOperator());
+        final com.hedera.hashgraph.proto.Transaction hedgePayment = newPayment(client, operator, node.accountId).toProto();
+
+        synchronized (inner) {
+            final QueryHeader.Builder header = getHeaderBuilder();
+            final com.hedera.hashgraph.proto.Transaction origPayment = header.getPayment();
+
+            // set the payment to the hedge node, build and then reset
+            header.setPayment(hedgePayment);
+            final Query built = inner.build();
+            header.setPayment(origPayment);
+
+            return built;
         }
     }
 
@@ -175,12 +298,32 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
 
         if (!getHeaderBuilder().hasPayment() && isPaymentRequired() && maxQueryPayment > 0) {
             if (paymentAmount == 0) {
+                final QueryCostCache costCache = client.getNetwork().getQueryCostCache();
+                final QueryCostCache.Key costKey = costCache != null ? getCostKey(client) : null;
+                final Long cachedCost = costCache != null ? costCache.get(Objects.requireNonNull(costKey)) : null;
+
+                // a remembered cost over the limit may be out of date, so ask again rather than fail
+                if (cachedCost != null && cachedCost <= maxQueryPayment) {
+                    try {
+                        return executeWithCost(client, timeout, cachedCost, maxQueryPayment);
+                    } catch (HederaPrecheckStatusException e) {
+                        if (e.status != Status.InsufficientTxFee) {
+                            throw e;
+                        }
+
+                        // the cost has gone up; forget it and ask again
+                        costCache.invalidate(Objects.requireNonNull(costKey));
+                        resetPayment();
+                    }
+                }
+
                 final long cost = getCost(client);
-                if (cost > maxQueryPayment) {
-                    throw new MaxQueryPaymentExceededException(this, cost, maxQueryPayment);
+
+                if (costCache != null) {
+                    costCache.put(Objects.requireNonNull(costKey), cost);
                 }
 
-                this.paymentAmount = cost;
+                return executeWithCost(client, timeout, cost, maxQueryPayment);
             }
 
             generatePayment(client);
@@ -189,23 +332,136 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
         return super.execute(client, timeout);
     }
 
+    private Resp executeWithCost(Client client, Duration timeout, long cost, long maxQueryPayment) throws HederaStatusException, HederaNetworkException {
+        if (cost > maxQueryPayment) {
+            throw new MaxQueryPaymentExceededException(this, cost, maxQueryPayment);
+        }
+
+        this.paymentAmount = cost;
+
+        generatePayment(client);
+
+        return super.execute(client, timeout);
+    }
+
     @Override
-    public final void executeAsync(Client client, Duration timeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) throws LocalValidationException {
+    final void executeAsync(Client client, Duration timeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError, Cancellation cancellation) throws LocalValidationException {
         final long maxQueryPayment = client.getMaxQueryPayment();
 
         if (!getHeaderBuilder().hasPayment() && isPaymentRequired() && maxQueryPayment > 0) {
-            getCostAsync(client, cost -> {
-                if (cost > maxQueryPayment) {
-                    onError.accept(new MaxQueryPaymentExceededException(this, cost, maxQueryPayment));
+            if (paymentAmount != 0) {
+                generatePayment(client);
+                super.executeAsync(client, timeout, onSuccess, onError, cancellation);
+                return;
+            }
+
+            final QueryCostCache costCache = client.getNetwork().getQueryCostCache();
+
+            if (costCache == null) {
+                executeAsyncWithCostQuery(client, timeout, onSuccess, onError, cancellation, null, null);
+                return;
+            }
+
+            final QueryCostCache.Key costKey = getCostKey(client);
+            final Long cachedCost = costCache.get(costKey);
+
+            // as above, a remembered cost over the limit may be out of date
+            if (cachedCost == null || cachedCost > maxQueryPayment) {
+                executeAsyncWithCostQuery(client, timeout, onSuccess, onError, cancellation, costCache, costKey);
+                return;
+            }
+
+            executeAsyncWithCost(client, timeout, cachedCost, maxQueryPayment, onSuccess, error -> {
+                if (!(error instanceof HederaPrecheckStatusException)
+                    || ((HederaPrecheckStatusException) error).status != Status.InsufficientTxFee) {
+                    onError.accept(error);
                     return;
                 }
-                paymentAmount = cost;
 
-                super.executeAsync(client, timeout, onSuccess, onError);
-            }, onError);
+                // the cost has gone up; forget it and ask again
+                costCache.invalidate(costKey);
+                resetPayment();
+
+                executeAsyncWithCostQuery(client, timeout, onSuccess, onError, cancellation, costCache, costKey);
+            }, cancellation);
         } else {
-            super.executeAsync(client, timeout, onSuccess, onError);
+            super.executeAsync(client, timeout, onSuccess, onError, cancellation);
+        }
+    }
+
+    private void executeAsyncWithCostQuery(
+        Client client,
+        Duration timeout,
+        Consumer<Resp> onSuccess,
+        Consumer<HederaThrowable> onError,
+        Cancellation cancellation,
+        @Nullable QueryCostCache costCache,
+        @Nullable QueryCostCache.Key costKey
+    ) {
+        final long maxQueryPayment = client.getMaxQueryPayment();
+        final CostQuery costQuery = new CostQuery(client);
+
+        costQuery.executeAsync(client, costQuery.getDefaultTimeout(), cost -> {
+            if (costCache != null) {
+                costCache.put(Objects.requireNonNull(costKey), cost);
+            }
+
+            executeAsyncWithCost(client, timeout, cost, maxQueryPayment, onSuccess, onError, cancellation);
+        }, onError, cancellation);
+    }
+
+    private void executeAsyncWithCost(
+        Client client,
+        Duration timeout,
+        long cost,
+        long maxQueryPayment,
+        Consumer<Resp> onSuccess,
+        Consumer<HederaThrowable> onError,
+        Cancellation cancellation
+    ) {
+        if (cost > maxQueryPayment) {
+            onError.accept(new MaxQueryPaymentExceededException(this, cost, maxQueryPayment));
+            return;
         }
+
+        paymentAmount = cost;
+
+        generatePayment(client);
+        super.executeAsync(client, timeout, onSuccess, onError, cancellation);
+    }
+
+    /**
+     * The key for the cost of this query in a {@link QueryCostCache}: the node it will be sent
+     * to and the query itself, without the payment or response type.
+     */
+    private QueryCostCache.Key getCostKey(Client client) {
+        final AccountId nodeId = getNode(client).accountId;
+
+        synchronized (inner) {
+            final QueryHeader.Builder header = getHeaderBuilder();
+            final QueryHeader origHeader = header.build();
+
+            // clear the header, build and then reset
+            header.clear();
+            final ByteString query = inner.build().toByteString();
+            header.mergeFrom(origHeader);
+
+            return new QueryCostCache.Key(getMethod().getFullMethodName(), nodeId, query);
+        }
+    }
+
+    /**
+     * Drop a payment generated for a cost that turned out to be too low, so that a new one is
+     * generated for the new cost.
+     */
+    private void resetPayment() {
+        if (paymentGenerated) {
+            getHeaderBuilder().clearPayment();
+            paymentTransactionId = null;
+            paymentGenerated = false;
+        }
+
+        paymentAmount = 0;
     }
 
     protected abstract void doValidate();
@@ -255,22 +511,86 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
                 return raw.getTransactionGetReceipt().getHeader();
             case TRANSACTIONGETRECORD:
                 return raw.getTransactionGetRecord().getHeader();
+            case TRANSACTIONGETFASTRECORD:
+                return raw.getTransactionGetFastRecord().getHeader();
             case RESPONSE_NOT_SET:
                 throw new IllegalStateException("Response not set");
             case CONSENSUSGETTOPICINFO:
                 return raw.getConsensusGetTopicInfo().getHeader();
             default:
-                // NOTE: TRANSACTIONGETFASTRECORD shouldn't be handled as we don't expose that query
                 throw new RuntimeException("Unhandled response case");
         }
     }
 
+    private static QueryHeader getQueryHeader(Query request) {
+        switch (request.getQueryCase()) {
+            case GETBYKEY:
+                return request.getGetByKey().getHeader();
+            case GETBYSOLIDITYID:
+                return request.getGetBySolidityID().getHeader();
+            case CONTRACTCALLLOCAL:
+                return request.getContractCallLocal().getHeader();
+            case CONTRACTGETBYTECODE:
+                return request.getContractGetBytecode().getHeader();
+            case CONTRACTGETINFO:
+                return request.getContractGetInfo().getHeader();
+            case CONTRACTGETRECORDS:
+                return request.getContractGetRecords().getHeader();
+            case CRYPTOGETACCOUNTBALANCE:
+                return request.getCryptogetAccountBalance().getHeader();
+            case CRYPTOGETACCOUNTRECORDS:
+                return request.getCryptoGetAccountRecords().getHeader();
+            case CRYPTOGETINFO:
+                return request.getCryptoGetInfo().getHeader();
+            case CRYPTOGETPROXYSTAKERS:
+                return request.getCryptoGetProxyStakers().getHeader();
+            case FILEGETCONTENTS:
+                return request.getFileGetContents().getHeader();
+            case FILEGETINFO:
+                return request.getFileGetInfo().getHeader();
+            case TRANSACTIONGETRECEIPT:
+                return request.getTransactionGetReceipt().getHeader();
+            case TRANSACTIONGETRECORD:
+                return request.getTransactionGetRecord().getHeader();
+            case TRANSACTIONGETFASTRECORD:
+                return request.getTransactionGetFastRecord().getHeader();
+            case QUERY_NOT_SET:
+                throw new IllegalStateException("Query not set");
+            case CONSENSUSGETTOPICINFO:
+                return request.getConsensusGetTopicInfo().getHeader();
+            default:
+                throw new RuntimeException("Unhandled query case");
+        }
+    }
+
+    private static TransactionId getPaymentTransactionId(QueryHeader header) {
+        try {
+            return new TransactionId(TransactionBody.parseFrom(header.getPayment().getBodyBytes()).getTransactionID());
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException("payment transaction was not properly encoded", e);
+        }
+    }
+
     @Override
     protected final Resp mapResponse(Response raw) throws HederaStatusException {
+        return mapResponse(null, raw);
+    }
+
+    /**
+     * @param request the query that was sent, if known; a hedge pays with a payment of its own,
+     *                which is the one to report if it fails precheck.
+     */
+    @Override
+    final Resp mapResponse(@Nullable Query request, Response raw) throws HederaStatusException {
         if (paymentTransactionId != null) {
             // precheck code for transaction only matters if we have a payment attached
             final ResponseCodeEnum precheckCode = getResponseHeader(raw).getNodeTransactionPrecheckCode();
-            HederaPrecheckStatusException.throwIfExceptional(precheckCode, paymentTransactionId);
+
+            if (HederaStatusException.isCodeExceptional(precheckCode)) {
+                throw new HederaPrecheckStatusException(precheckCode, request != null
+                    ? getPaymentTransactionId(getQueryHeader(request))
+                    : paymentTransactionId);
+            }
         }
 
         switch (raw.getResponseCase()) {
@@ -282,7 +602,10 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
                 break;
             case TRANSACTIONGETRECORD:
                 // record response has everything we need
-                HederaRecordStatusException.throwIfExceptional(raw.getTransactionGetRecord());
+                HederaRecordStatusException.throwIfExceptional(raw.getTransactionGetRecord().getTransactionRecord());
+                break;
+            case TRANSACTIONGETFASTRECORD:
+                HederaRecordStatusException.throwIfExceptional(raw.getTransactionGetFastRecord().getTransactionRecord());
                 break;
             default:
         }
@@ -299,6 +622,12 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
             this.client = client;
         }
 
+        @Override
+        boolean isInFlightLimited() {
+            // counted as part of the query it is for
+            return false;
+        }
+
         @Override
         protected MethodDescriptor<Query, Response> getMethod() {
             return QueryBuilder.this.getMethod();
@@ -311,20 +640,17 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
             final com.hedera.hashgraph.proto.Transaction origPayment = header.hasPayment() ? header.getPayment() : null;
             final ResponseType origResponseType = header.getResponseType();
 
-            final AccountId operatorId = Objects.requireNonNull(
-                client.getOperatorId(),
-                "COST_ANSWER requires an operator ID to be set");
-
-            final PublicKey operatorPublicKey = Objects.requireNonNull(client.getOperatorPublicKey());
-
-            final TransactionSigner operatorSigner = Objects.requireNonNull(client.getOperatorSigner());
+            final OperatorPool.Operator operator = Objects.requireNonNull(
+                client.nextOperator(),
+                "COST_ANSWER requires an operator to be set");
 
             // COST_ANSWER requires a payment to pass validation but doesn't actually process it
             final com.hedera.hashgraph.proto.Transaction fakePayment = new CryptoTransferTransaction()
                 .addRecipient(Objects.requireNonNull(nodeId), 0)
-                .addSender(operatorId, 0)
+                .addSender(operator.accountId, 0)
+                .setTransactionId(client.generateTransactionId(operator.accountId, nodeId))
                 .build(client)
-                .signWith(operatorPublicKey, operatorSigner)
+                .signWith(operator.publicKey, operator.signer)
                 .toProto();
 
             // set our fake values, build and then reset
@@ -345,8 +671,8 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
         }
 
         @Override
-        protected Channel getChannel(Client client) {
-            return QueryBuilder.this.getChannel(client);
+        Node getNode(Client client) {
+            return QueryBuilder.this.getNode(client);
         }
 
         @Override
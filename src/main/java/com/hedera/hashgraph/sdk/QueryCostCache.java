@@ -0,0 +1,124 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Costs returned by {@code COST_ANSWER} queries, remembered for a while so that repeating a query
+ * doesn't have to ask for its cost again before paying for it.
+ * <p>
+ * A cost is remembered per node for the exact query, i.e. the same type of query with the same
+ * parameters (account, file, contract call parameters and gas, etc.), as the cost of a query
+ * depends on the size of what it returns.
+ */
+final class QueryCostCache {
+    // stop remembering new costs past this many, until the old ones expire
+    private static final int MAX_ENTRIES = 4096;
+
+    private final long ttlNanos;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    QueryCostCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @return the remembered cost, or {@code null} if there isn't one or it has expired.
+     */
+    @Nullable
+    Long get(Key key) {
+        final Entry entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expiresAtNanos >= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.cost;
+    }
+
+    void put(Key key, long cost) {
+        final long nowNanos = System.nanoTime();
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(entry -> nowNanos - entry.expiresAtNanos >= 0);
+
+            if (entries.size() >= MAX_ENTRIES) {
+                return;
+            }
+        }
+
+        entries.put(key, new Entry(cost, nowNanos + ttlNanos));
+    }
+
+    /**
+     * Forget a cost, e.g. because paying it was rejected with {@code INSUFFICIENT_TX_FEE}.
+     */
+    void invalidate(Key key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        final long cost;
+
+        final long expiresAtNanos;
+
+        Entry(long cost, long expiresAtNanos) {
+            this.cost = cost;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    static final class Key {
+        private final String methodName;
+
+        private final AccountId nodeId;
+
+        // the query without its header (payment and response type)
+        private final ByteString query;
+
+        Key(String methodName, AccountId nodeId, ByteString query) {
+            this.methodName = methodName;
+            this.nodeId = nodeId;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            final Key key = (Key) other;
+
+            return methodName.equals(key.methodName)
+                && nodeId.equals(key.nodeId)
+                && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(methodName, nodeId, query);
+        }
+    }
+}
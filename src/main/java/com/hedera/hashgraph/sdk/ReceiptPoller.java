@@ -0,0 +1,325 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Fetches the receipts of many transactions at once, polling for all of them from one schedule
+ * rather than each running its own {@link TransactionReceiptQuery} retry loop.
+ * <p>
+ * The poller keeps an estimate of how long transactions take to reach consensus, from how long
+ * it took to find the receipts it has found so far. A transaction's first poll is made just
+ * before the estimate says its receipt will be available, rather than straight away, and later
+ * polls a fraction of the estimate apart; polls that fall due close together are sent together
+ * on one tick of the client's scheduler. Each poll is a single attempt to the node the client
+ * picks for it, so polls are spread over the network and steer clear of unhealthy nodes.
+ * <p>
+ * The same transaction ID may be given more than once; it is polled for once.
+ */
+public final class ReceiptPoller implements AutoCloseable {
+    // polls due within this long of a tick are sent on that tick
+    private static final long COALESCE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    // weight of each new latency sample in the estimate
+    private static final double LATENCY_ALPHA = 0.2;
+
+    // every poll is a single attempt; the poller decides when to try again
+    private static final RetryPolicy NO_RETRY = (attempt, previousDelay, error, retryable) -> null;
+
+    private final Client client;
+
+    private final Map<TransactionId, Pending> pendingById = new ConcurrentHashMap<>();
+
+    // guarded by `this`; the pending receipts not being polled right now, by when they are due
+    private final PriorityQueue<Pending> due = new PriorityQueue<>(Comparator.comparingLong(p -> p.nextPollNanos));
+
+    // guarded by `this`
+    @Nullable
+    private ScheduledFuture<?> tick;
+
+    // guarded by `this`
+    private long tickNanos;
+
+    // guarded by `this`
+    private boolean closed = false;
+
+    private volatile long latencyNanos = TimeUnit.SECONDS.toNanos(4);
+
+    private volatile Duration minPollInterval = Duration.ofMillis(250);
+
+    private volatile Duration maxPollInterval = Duration.ofSeconds(2);
+
+    private volatile Duration timeout = Transaction.MAX_VALID_DURATION.plus(Duration.ofMinutes(3));
+
+    public ReceiptPoller(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Set how long transactions are expected to take to reach consensus before any have been
+     * observed; the estimate moves towards what is observed from then on.
+     * <p>
+     * Defaults to 4 seconds.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ReceiptPoller setExpectedLatency(Duration expectedLatency) {
+        if (expectedLatency.isNegative()) {
+            throw new IllegalArgumentException("expectedLatency must not be negative");
+        }
+
+        this.latencyNanos = expectedLatency.toNanos();
+        return this;
+    }
+
+    /**
+     * Set the bounds on the time between polls for the same transaction, which is otherwise a
+     * quarter of the consensus latency estimate.
+     * <p>
+     * Defaults to 250 milliseconds and 2 seconds.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ReceiptPoller setPollInterval(Duration minPollInterval, Duration maxPollInterval) {
+        if (minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new IllegalArgumentException("minPollInterval must be positive");
+        }
+
+        if (maxPollInterval.compareTo(minPollInterval) < 0) {
+            throw new IllegalArgumentException("maxPollInterval must not be less than minPollInterval");
+        }
+
+        this.minPollInterval = minPollInterval;
+        this.maxPollInterval = maxPollInterval;
+        return this;
+    }
+
+    /**
+     * Set how long to keep polling for a receipt before failing with the error of the last poll.
+     * <p>
+     * Defaults to the longest a transaction can be valid for plus the 3 minutes its receipt is
+     * kept, as for a {@link TransactionReceiptQuery}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ReceiptPoller setTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Get the current estimate of how long transactions take to reach consensus.
+     */
+    public Duration getLatencyEstimate() {
+        return Duration.ofNanos(latencyNanos);
+    }
+
+    /**
+     * Get the number of transactions whose receipts are still being polled for.
+     */
+    public int getPending() {
+        return pendingById.size();
+    }
+
+    /**
+     * Get the receipt of a transaction, as {@link TransactionId#getReceipt(Client)} does.
+     * <p>
+     * Cancelling the returned future stops polling for the receipt, unless the transaction ID
+     * was also given again and that future is still waiting.
+     *
+     * @return a future for the receipt, completed exceptionally if its status is a failure, a
+     * poll fails in a way that is not worth retrying, or no receipt is found in time.
+     */
+    public CompletableFuture<TransactionReceipt> getReceipt(TransactionId transactionId) {
+        final long nowNanos = System.nanoTime();
+        final Pending created = new Pending(transactionId, nowNanos, nowNanos + timeout.toNanos());
+
+        for (Pending pending; (pending = pendingById.putIfAbsent(transactionId, created)) != null;) {
+            final CompletableFuture<TransactionReceipt> future = pending.newFuture();
+
+            if (future != null) {
+                return future;
+            }
+
+            // finished as we found it; start again
+            pendingById.remove(transactionId, pending);
+        }
+
+        final CompletableFuture<TransactionReceipt> future = created.newFuture();
+
+        if (future == null) {
+            throw new IllegalStateException("new pending receipt was already finished");
+        }
+
+        // just before the estimate says the receipt will be there; if it isn't, the next poll
+        // comes soon after
+        final long firstPollNanos = nowNanos + latencyNanos - pollIntervalNanos() / 2;
+
+        synchronized (this) {
+            if (closed) {
+                pendingById.remove(transactionId, created);
+                created.fail(new IllegalStateException("ReceiptPoller is closed"));
+                return future;
+            }
+
+            created.nextPollNanos = Math.max(nowNanos, firstPollNanos);
+            due.add(created);
+            scheduleTick();
+        }
+
+        return future;
+    }
+
+    /**
+     * Stop polling, failing the future for every receipt not yet found.
+     * <p>
+     * This does not close the client.
+     */
+    @Override
+    public void close() {
+        final List<Pending> abandoned;
+
+        synchronized (this) {
+            closed = true;
+
+            if (tick != null) {
+                tick.cancel(false);
+                tick = null;
+            }
+
+            due.clear();
+            abandoned = new ArrayList<>(pendingById.values());
+            pendingById.clear();
+        }
+
+        final IllegalStateException error = new IllegalStateException("ReceiptPoller is closed");
+
+        for (Pending pending : abandoned) {
+            pending.fail(error);
+        }
+    }
+
+    // must hold the lock
+    private void scheduleTick() {
+        final Pending next = due.peek();
+
+        if (next == null || closed) {
+            return;
+        }
+
+        if (tick != null) {
+            if (tickNanos <= next.nextPollNanos) {
+                // an earlier tick will reschedule for this one
+                return;
+            }
+
+            tick.cancel(false);
+        }
+
+        tickNanos = next.nextPollNanos;
+        tick = client.getScheduler().schedule(this::onTick,
+            Math.max(0, tickNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void onTick() {
+        final List<Pending> polls = new ArrayList<>();
+
+        synchronized (this) {
+            tick = null;
+
+            final long horizonNanos = System.nanoTime() + COALESCE_NANOS;
+
+            while (!due.isEmpty() && due.peek().nextPollNanos <= horizonNanos) {
+                polls.add(due.poll());
+            }
+
+            scheduleTick();
+        }
+
+        for (Pending pending : polls) {
+            try {
+                poll(pending);
+            } catch (RuntimeException e) {
+                // failed to even start, e.g. no channel could be opened to the node; retrying
+                // won't help, and the other polls on this tick must still be sent
+                pendingById.remove(pending.transactionId, pending);
+                pending.fail(e);
+            }
+        }
+    }
+
+    private void poll(Pending pending) {
+        if (!pending.isWanted()) {
+            pendingById.remove(pending.transactionId, pending);
+            return;
+        }
+
+        final TransactionReceiptQuery query = new TransactionReceiptQuery()
+            .setTransactionId(pending.transactionId);
+
+        query.setRetryPolicy(NO_RETRY);
+
+        query.executeAsync(client, query.getDefaultTimeout(), receipt -> {
+            pendingById.remove(pending.transactionId, pending);
+            recordLatency(System.nanoTime() - pending.startNanos);
+            pending.complete(receipt);
+        }, error -> {
+            final long nowNanos = System.nanoTime();
+
+            if (!query.shouldRetry(error) || nowNanos - pending.deadlineNanos >= 0) {
+                pendingById.remove(pending.transactionId, pending);
+                pending.fail((Throwable) error);
+                return;
+            }
+
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+
+                pending.nextPollNanos = nowNanos + pollIntervalNanos();
+                due.add(pending);
+                scheduleTick();
+            }
+        });
+    }
+
+    private void recordLatency(long sampleNanos) {
+        // racing updates may drop a sample, which the estimate can afford
+        final long estimate = latencyNanos;
+        latencyNanos = estimate + (long) (LATENCY_ALPHA * (sampleNanos - estimate));
+    }
+
+    private long pollIntervalNanos() {
+        final long interval = latencyNanos / 4;
+
+        return Math.max(minPollInterval.toNanos(), Math.min(maxPollInterval.toNanos(), interval));
+    }
+
+    private static final class Pending extends PendingFutures<TransactionReceipt> {
+        final TransactionId transactionId;
+
+        final long startNanos;
+
+        final long deadlineNanos;
+
+        // guarded by the poller while this is in its queue
+        long nextPollNanos;
+
+        Pending(TransactionId transactionId, long startNanos, long deadlineNanos) {
+            this.transactionId = transactionId;
+            this.startNanos = startNanos;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
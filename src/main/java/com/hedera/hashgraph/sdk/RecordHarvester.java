@@ -0,0 +1,278 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.AccountRecordsQuery;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Fetches the records of many transactions with one {@link AccountRecordsQuery} per payer
+ * account, rather than a {@link TransactionRecordQuery} (and its cost query) per transaction.
+ * <p>
+ * While any record is outstanding, the recent records of each payer with an outstanding
+ * transaction are downloaded every {@link #setPeriod(Duration) period} and matched against the
+ * outstanding transaction IDs; the same transaction ID given more than once is only looked for
+ * once. Each download is a paid query, paid for by the client's operator, so this pays off for
+ * payers with many transactions in flight.
+ * <p>
+ * The network only returns records of a payer's recent transactions, so records should be asked
+ * for soon after the transactions are submitted.
+ */
+public final class RecordHarvester implements AutoCloseable {
+    private final Client client;
+
+    private final Map<TransactionId, Pending> pendingById = new ConcurrentHashMap<>();
+
+    private volatile Duration period = Duration.ofSeconds(5);
+
+    private volatile Duration timeout = Transaction.MAX_VALID_DURATION.plus(Duration.ofMinutes(3));
+
+    // guarded by `this`
+    @Nullable
+    private ScheduledFuture<?> nextHarvest;
+
+    // guarded by `this`
+    private boolean harvesting = false;
+
+    // guarded by `this`
+    private boolean closed = false;
+
+    public RecordHarvester(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Set the time from the end of one download of records to the start of the next, and from
+     * when the first record is asked for to the first download.
+     * <p>
+     * Defaults to 5 seconds.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public RecordHarvester setPeriod(Duration period) {
+        if (period.isNegative()) {
+            throw new IllegalArgumentException("period must not be negative");
+        }
+
+        this.period = period;
+        return this;
+    }
+
+    /**
+     * Set how long to look for a record before giving up on it.
+     * <p>
+     * Defaults to the longest a transaction can be valid for plus 3 minutes.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public RecordHarvester setTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Get the number of transactions whose records are still being looked for.
+     */
+    public int getPending() {
+        return pendingById.size();
+    }
+
+    /**
+     * Get the record of a transaction, as {@link TransactionId#getRecord(Client)} does.
+     * <p>
+     * Cancelling the returned future stops looking for the record, unless the transaction ID was
+     * also given again and that future is still waiting.
+     *
+     * @return a future for the record, completed exceptionally with a
+     * {@link HederaRecordStatusException} if its status is a failure, or with the error of the
+     * last download (or {@link Status#RecordNotFound} if there was none) if it isn't found in
+     * time.
+     */
+    public CompletableFuture<TransactionRecord> getRecord(TransactionId transactionId) {
+        final Pending created = new Pending(transactionId, System.nanoTime() + timeout.toNanos());
+
+        for (Pending pending; (pending = pendingById.putIfAbsent(transactionId, created)) != null;) {
+            final CompletableFuture<TransactionRecord> future = pending.newFuture();
+
+            if (future != null) {
+                return future;
+            }
+
+            // finished as we found it; start again
+            pendingById.remove(transactionId, pending);
+        }
+
+        final CompletableFuture<TransactionRecord> future = created.newFuture();
+
+        if (future == null) {
+            throw new IllegalStateException("new pending record was already finished");
+        }
+
+        synchronized (this) {
+            if (closed) {
+                pendingById.remove(transactionId, created);
+                created.fail(new IllegalStateException("RecordHarvester is closed"));
+                return future;
+            }
+
+            scheduleHarvest();
+        }
+
+        return future;
+    }
+
+    /**
+     * Stop looking for records, failing the future for every record not yet found.
+     * <p>
+     * This does not close the client.
+     */
+    @Override
+    public void close() {
+        final List<Pending> abandoned;
+
+        synchronized (this) {
+            closed = true;
+
+            if (nextHarvest != null) {
+                nextHarvest.cancel(false);
+                nextHarvest = null;
+            }
+
+            abandoned = new ArrayList<>(pendingById.values());
+            pendingById.clear();
+        }
+
+        final IllegalStateException error = new IllegalStateException("RecordHarvester is closed");
+
+        for (Pending pending : abandoned) {
+            pending.fail(error);
+        }
+    }
+
+    // must hold the lock
+    private void scheduleHarvest() {
+        if (closed || harvesting || nextHarvest != null || pendingById.isEmpty()) {
+            return;
+        }
+
+        nextHarvest = client.getScheduler().schedule(this::harvest, period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void harvest() {
+        synchronized (this) {
+            nextHarvest = null;
+
+            if (closed) {
+                return;
+            }
+
+            harvesting = true;
+        }
+
+        final long nowNanos = System.nanoTime();
+        final Map<AccountId, List<Pending>> pendingByPayer = new HashMap<>();
+
+        for (Pending pending : pendingById.values()) {
+            if (!pending.isWanted()) {
+                pendingById.remove(pending.transactionId, pending);
+            } else if (nowNanos - pending.deadlineNanos >= 0) {
+                pendingById.remove(pending.transactionId, pending);
+                pending.fail(pending.lastError != null
+                    ? (Throwable) pending.lastError
+                    : new HederaPrecheckStatusException(ResponseCodeEnum.RECORD_NOT_FOUND, pending.transactionId));
+            } else {
+                pendingByPayer.computeIfAbsent(pending.transactionId.accountId, payer -> new ArrayList<>()).add(pending);
+            }
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(pendingByPayer.size() + 1);
+
+        for (Map.Entry<AccountId, List<Pending>> entry : pendingByPayer.entrySet()) {
+            final List<Pending> pending = entry.getValue();
+
+            try {
+                new AccountRecordsQuery()
+                    .setAccountId(entry.getKey())
+                    .executeAsync(client, records -> {
+                        match(records);
+                        onHarvested(remaining);
+                    }, error -> {
+                        // keep looking; the next download may succeed
+                        for (Pending p : pending) {
+                            p.lastError = error;
+                        }
+
+                        onHarvested(remaining);
+                    });
+            } catch (RuntimeException e) {
+                // failed to even start, e.g. no channel could be opened to the node; retrying
+                // won't help, and the other payers' downloads must still be counted down
+                for (Pending p : pending) {
+                    pendingById.remove(p.transactionId, p);
+                    p.fail(e);
+                }
+
+                onHarvested(remaining);
+            }
+        }
+
+        // for the harvest itself, in case there was nothing to download
+        onHarvested(remaining);
+    }
+
+    private void match(List<TransactionRecord> records) {
+        for (TransactionRecord record : records) {
+            final Pending pending = pendingById.remove(record.transactionId);
+
+            if (pending == null) {
+                continue;
+            }
+
+            final ResponseCodeEnum status = record.receipt.toProto().getStatus();
+
+            if (HederaStatusException.isCodeExceptional(status)) {
+                pending.fail(new HederaRecordStatusException(status, record));
+            } else {
+                pending.complete(record);
+            }
+        }
+    }
+
+    private void onHarvested(AtomicInteger remaining) {
+        if (remaining.decrementAndGet() != 0) {
+            return;
+        }
+
+        synchronized (this) {
+            harvesting = false;
+            scheduleHarvest();
+        }
+    }
+
+    private static final class Pending extends PendingFutures<TransactionRecord> {
+        final TransactionId transactionId;
+
+        final long deadlineNanos;
+
+        // the error from the last download of the payer's records, if it failed
+        @Nullable
+        volatile HederaThrowable lastError;
+
+        Pending(TransactionId transactionId, long deadlineNanos) {
+            this.transactionId = transactionId;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * A token bucket limiting retries to a fraction of successful calls, shared by every call made
+ * under the same {@link DefaultRetryPolicy}.
+ * <p>
+ * Each retry takes a token and each successful call puts back {@code tokensPerSuccess}, up to
+ * {@code maxTokens}. While the network is healthy the bucket stays full; during an incident it
+ * empties after {@code maxTokens} retries and from then on calls fail instead of retrying, so
+ * retries can't multiply the load on a network that is already struggling. The bucket starts
+ * full.
+ */
+public final class RetryBudget {
+    private final double maxTokens;
+    private final double tokensPerSuccess;
+
+    private double tokens;
+
+    /**
+     * @param maxTokens        the most retries that can be made without any call succeeding.
+     * @param tokensPerSuccess the retries earned by each successful call, e.g. {@code 0.1} for at
+     *                         most one retry for every ten successes in the long run.
+     */
+    public RetryBudget(int maxTokens, double tokensPerSuccess) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("maxTokens must be >= 1");
+        }
+
+        if (!(tokensPerSuccess > 0)) {
+            throw new IllegalArgumentException("tokensPerSuccess must be > 0");
+        }
+
+        this.maxTokens = maxTokens;
+        this.tokensPerSuccess = tokensPerSuccess;
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * Take a token for a retry.
+     *
+     * @return {@code false} if the budget is spent and the retry should not be made.
+     */
+    synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+
+        tokens -= 1;
+        return true;
+    }
+
+    synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + tokensPerSuccess);
+    }
+
+    /**
+     * Get the number of retries currently available.
+     */
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,40 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+
+import javax.annotation.Nullable;
+
+/**
+ * Decides whether a failed attempt of a transaction or query is retried, and after how long.
+ * <p>
+ * Set for every call made with a client with {@link Client#setRetryPolicy(RetryPolicy)}, or for
+ * a single call with {@link HederaCall#setRetryPolicy(RetryPolicy)}. The same instance is used
+ * by every call it is set on, concurrently, so implementations must be thread-safe; this is also
+ * what lets a policy enforce limits across calls, such as a {@link RetryBudget}.
+ * <p>
+ * Whatever the policy decides, a call is never retried past its overall timeout.
+ *
+ * @see DefaultRetryPolicy
+ */
+public interface RetryPolicy {
+    /**
+     * Decide whether to retry after an attempt failed.
+     *
+     * @param attempt       the number of attempts made so far, starting at 1.
+     * @param previousDelay the delay before the attempt that failed; zero if it was the first.
+     * @param error         the error the attempt failed with.
+     * @param retryable     whether the call itself considers the error worth retrying, e.g.
+     *                      {@link Status#Busy}, a transport error, or a receipt that isn't
+     *                      available yet.
+     * @return the delay before the next attempt, or {@code null} to fail the call with
+     * {@code error}.
+     */
+    @Nullable
+    Duration getRetryDelay(int attempt, Duration previousDelay, HederaThrowable error, boolean retryable);
+
+    /**
+     * Called once for every call made under this policy that succeeds.
+     */
+    default void onSuccess() {
+    }
+}
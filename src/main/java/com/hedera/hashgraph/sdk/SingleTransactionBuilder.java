@@ -1,13 +1,70 @@
 package com.hedera.hashgraph.sdk;
 
 import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.function.Consumer;
 
 @Internal
 public abstract class SingleTransactionBuilder<T extends SingleTransactionBuilder<T>> extends TransactionBuilder<TransactionId, Transaction, T> {
+    private int maxNodeFailovers = 0;
+
+    private int maxRegenerations = 0;
+
+    // the transaction ID was minted by `build()` rather than set by the user
+    private boolean generatedTransactionId = false;
+
+    /**
+     * Allow the built transaction to move to a different node when the node it was built for is
+     * busy or unreachable, up to the given number of times. Off ({@code 0}) by default.
+     *
+     * @return {@code this} for fluent usage.
+     * @see Transaction#setMaxNodeFailovers(int)
+     */
+    public T setMaxNodeFailovers(int maxNodeFailovers) {
+        if (maxNodeFailovers < 0) {
+            throw new IllegalArgumentException("maxNodeFailovers must not be negative");
+        }
+
+        this.maxNodeFailovers = maxNodeFailovers;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Allow {@link #execute(Client)} and {@link #executeAsync(Client, Consumer, Consumer)} to
+     * regenerate the transaction up to the given number of times if the network rejects it with
+     * {@link Status#InvalidTransactionStart}, {@link Status#TransactionExpired} or
+     * {@link Status#DuplicateTransaction}. Off ({@code 0}) by default.
+     * <p>
+     * Regenerating mints a new transaction ID for the operator, rebuilds the body and signs it
+     * again with the operator, then submits it again within what is left of the timeout. This
+     * only applies to transactions whose ID was generated from the client's operator, not one
+     * set with {@link #setTransactionId(TransactionId)}.
+     * <p>
+     * The transaction is never regenerated if an earlier attempt may have reached the network
+     * (e.g. it failed with a transport error or ran out of time), whatever the status: that
+     * attempt may still reach consensus, and a regenerated transaction would then execute the
+     * same operation twice. A {@link Status#DuplicateTransaction} in that case means the earlier
+     * attempt succeeded instead.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public T setMaxRegenerations(int maxRegenerations) {
+        if (maxRegenerations < 0) {
+            throw new IllegalArgumentException("maxRegenerations must not be negative");
+        }
+
+        this.maxRegenerations = maxRegenerations;
+
+        //noinspection unchecked
+        return (T) this;
+    }
+
     @Override
     public Transaction build(@Nullable Client client) throws LocalValidationException {
         if (client != null && bodyBuilder.getTransactionFee() == 0) {
@@ -21,27 +78,110 @@ public abstract class SingleTransactionBuilder<T extends SingleTransactionBuilde
             }
         }
 
-        if (!bodyBuilder.hasTransactionID() && client != null
-            && client.getOperatorId() != null)
-        {
-            bodyBuilder.setTransactionID(new TransactionId(client.getOperatorId()).toProto());
+        final OperatorPool.Operator payer = !bodyBuilder.hasTransactionID() && client != null
+            ? client.nextOperator() : null;
+
+        if (payer != null) {
+            final AccountId nodeId = bodyBuilder.hasNodeAccountID()
+                ? new AccountId(bodyBuilder.getNodeAccountIDOrBuilder()) : null;
+
+            bodyBuilder.setTransactionID(client.generateTransactionId(payer.accountId, nodeId).toProto());
+            generatedTransactionId = true;
         }
 
         localValidate();
 
         inner.setBodyBytes(bodyBuilder.build().toByteString());
 
-        return new Transaction(inner, bodyBuilder, getMethod());
+        return new Transaction(inner, bodyBuilder, getMethod())
+            .setMaxNodeFailovers(maxNodeFailovers);
     }
 
     @Override
     public TransactionId execute(Client client, Duration retryTimeout) throws HederaStatusException, HederaNetworkException {
-        return build(client).execute(client, retryTimeout);
+        final Instant deadline = Instant.now().plus(retryTimeout);
+
+        for (int regenerations = 0; ; regenerations++) {
+            final Transaction transaction = build(client);
+
+            try {
+                return transaction.execute(client, remainingUntil(deadline));
+            } catch (HederaPrecheckStatusException e) {
+                if (!regenerate(client, transaction, e, regenerations, deadline)) {
+                    throw e;
+                }
+            }
+        }
     }
 
     @Override
-    public void executeAsync(Client client, Duration retryTimeout, Consumer<TransactionId> onSuccess, Consumer<HederaThrowable> onError) {
-        build(client).executeAsync(client, retryTimeout, onSuccess, onError);
+    void executeAsync(Client client, Duration retryTimeout, Consumer<TransactionId> onSuccess, Consumer<HederaThrowable> onError, Cancellation cancellation) {
+        executeAsync(client, Instant.now().plus(retryTimeout), 0, onSuccess, onError, cancellation);
+    }
+
+    private void executeAsync(
+        Client client,
+        Instant deadline,
+        int regenerations,
+        Consumer<TransactionId> onSuccess,
+        Consumer<HederaThrowable> onError,
+        Cancellation cancellation)
+    {
+        final Transaction transaction = build(client);
+
+        transaction.executeAsync(client, remainingUntil(deadline), onSuccess, e -> {
+            if (cancellation.isCancelled() || !regenerate(client, transaction, e, regenerations, deadline)) {
+                onError.accept(e);
+                return;
+            }
+
+            // only the transaction ID changes, which can't make the body fail validation
+            executeAsync(client, deadline, regenerations + 1, onSuccess, onError, cancellation);
+        }, cancellation);
+    }
+
+    /**
+     * If the network rejected the transaction in a way a new transaction ID would fix, and
+     * regenerating is allowed, clear the ID and signatures so the next {@link #build(Client)}
+     * makes a fresh transaction.
+     *
+     * @param transaction the transaction that was rejected.
+     * @return {@code true} if the transaction should be built and submitted again.
+     */
+    private boolean regenerate(Client client, Transaction transaction, HederaThrowable e, int regenerations, Instant deadline) {
+        if (regenerations >= maxRegenerations
+            || !generatedTransactionId
+            // an earlier attempt may still reach consensus under the old ID
+            || transaction.isPossiblySubmitted()
+            || !(e instanceof HederaPrecheckStatusException)
+            || !Instant.now().isBefore(deadline))
+        {
+            return false;
+        }
+
+        final Status status = ((HederaPrecheckStatusException) e).status;
+
+        if (!status.equalsAny(Status.InvalidTransactionStart, Status.TransactionExpired, Status.DuplicateTransaction)) {
+            return false;
+        }
+
+        if (status == Status.InvalidTransactionStart && bodyBuilder.hasNodeAccountID()) {
+            // the node's clock is further behind than we estimated
+            client.getNodeForId(new AccountId(bodyBuilder.getNodeAccountIDOrBuilder())).clockSkew.reset();
+        }
+
+        bodyBuilder.clearTransactionID();
+        inner.clearSigMap();
+        generatedTransactionId = false;
+
+        return true;
+    }
+
+    private static Duration remainingUntil(Instant deadline) {
+        final Duration remaining = Duration.between(Instant.now(), deadline);
+
+        // the transaction is still submitted once
+        return remaining.isNegative() ? Duration.ZERO : remaining;
     }
 
     @Override
@@ -0,0 +1,281 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Submits many independent transactions with a {@link Client}, overlapping the build, sign,
+ * submit and receipt stages of different transactions, and gives a future for the receipt of
+ * each. Receipts are fetched by a {@link ReceiptPoller}.
+ * <p>
+ * Transactions are started in the order they were given as capacity allows: at most
+ * {@link #setMaxSubmitting(int)} are being submitted at once, and at most
+ * {@link #setMaxPending(int)} have been started and are still waiting to be accepted or for
+ * their receipt. A transaction given as a builder is only built, and signed by the operator,
+ * when it is started, so its transaction ID is fresh however long it waited; unless it was
+ * built for a particular node, each is sent to the node picked by the client as for any other
+ * transaction, which spreads them over the healthy nodes of the network.
+ * <p>
+ * Nothing here blocks; the stages run on the threads that complete the calls, or the client's
+ * callback executor if it has one.
+ */
+public final class SubmissionPipeline {
+    private final Client client;
+
+    private volatile ReceiptPoller receiptPoller;
+
+    // guarded by `this`
+    private final Queue<Item> queued = new ArrayDeque<>();
+
+    // guarded by `this`
+    private int submitting = 0;
+
+    // guarded by `this`; includes those submitting
+    private int pending = 0;
+
+    private volatile int maxSubmitting = 64;
+
+    private volatile int maxPending = 4096;
+
+    // calls to `drain()` not yet handled; only the caller that raises it from zero drains, so
+    // completions that arrive on the draining thread don't recurse
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    public SubmissionPipeline(Client client) {
+        this.client = client;
+        this.receiptPoller = new ReceiptPoller(client);
+    }
+
+    /**
+     * Set the poller that fetches the receipts of submitted transactions, e.g. to share one
+     * between pipelines.
+     * <p>
+     * By default each pipeline has a poller of its own.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public SubmissionPipeline setReceiptPoller(ReceiptPoller receiptPoller) {
+        this.receiptPoller = receiptPoller;
+        return this;
+    }
+
+    /**
+     * Set how many transactions may be submitted (sent and awaiting precheck) at once.
+     * <p>
+     * Defaults to 64.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public SubmissionPipeline setMaxSubmitting(int maxSubmitting) {
+        if (maxSubmitting < 1) {
+            throw new IllegalArgumentException("maxSubmitting must be >= 1");
+        }
+
+        this.maxSubmitting = maxSubmitting;
+        drain();
+        return this;
+    }
+
+    /**
+     * Set how many transactions may be started and not yet have a receipt at once, which bounds
+     * the work outstanding against the network; transactions beyond it wait in the pipeline.
+     * <p>
+     * Defaults to 4096.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public SubmissionPipeline setMaxPending(int maxPending) {
+        if (maxPending < 1) {
+            throw new IllegalArgumentException("maxPending must be >= 1");
+        }
+
+        this.maxPending = maxPending;
+        drain();
+        return this;
+    }
+
+    /**
+     * Queue a transaction to be built, signed, submitted and its receipt fetched.
+     * <p>
+     * Cancelling the returned future takes the transaction out of the pipeline: it is not
+     * started if it hasn't been, and whichever call it is waiting on is cancelled if it has.
+     *
+     * @return a future for the receipt, completed exceptionally if the transaction fails
+     * validation or precheck, or its receipt has a failing status.
+     */
+    public CompletableFuture<TransactionReceipt> submit(SingleTransactionBuilder<?> transaction) {
+        return enqueue(() -> transaction.executeFuture(client));
+    }
+
+    /**
+     * Queue a built transaction to be submitted and its receipt fetched, as
+     * {@link #submit(SingleTransactionBuilder)} does.
+     * <p>
+     * The transaction keeps the node and transaction ID it was built with.
+     */
+    public CompletableFuture<TransactionReceipt> submit(Transaction transaction) {
+        return enqueue(() -> transaction.executeFuture(client));
+    }
+
+    /**
+     * Queue every transaction, as {@link #submit(SingleTransactionBuilder)} does.
+     *
+     * @return a future for the receipt of each transaction, in the same order.
+     */
+    public List<CompletableFuture<TransactionReceipt>> submitAll(Iterable<? extends SingleTransactionBuilder<?>> transactions) {
+        final List<CompletableFuture<TransactionReceipt>> receipts = new ArrayList<>();
+
+        for (SingleTransactionBuilder<?> transaction : transactions) {
+            receipts.add(submit(transaction));
+        }
+
+        return receipts;
+    }
+
+    /**
+     * Get the number of transactions waiting to be started.
+     */
+    public synchronized int getQueued() {
+        return queued.size();
+    }
+
+    /**
+     * Get the number of transactions started and still waiting to be accepted or for their
+     * receipt.
+     */
+    public synchronized int getPending() {
+        return pending;
+    }
+
+    private CompletableFuture<TransactionReceipt> enqueue(Supplier<CompletableFuture<TransactionId>> submission) {
+        final Item item = new Item(submission);
+
+        synchronized (this) {
+            queued.add(item);
+        }
+
+        item.receipt.whenComplete((receipt, e) -> {
+            if (item.receipt.isCancelled()) {
+                synchronized (this) {
+                    queued.remove(item);
+                }
+            }
+        });
+
+        drain();
+
+        return item.receipt;
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            for (Item item; (item = nextItem()) != null;) {
+                start(item);
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    @Nullable
+    private synchronized Item nextItem() {
+        while (submitting < maxSubmitting && pending < maxPending) {
+            final Item item = queued.poll();
+
+            if (item == null) {
+                return null;
+            }
+
+            // cancelled while it waited
+            if (item.receipt.isDone()) {
+                continue;
+            }
+
+            submitting += 1;
+            pending += 1;
+
+            return item;
+        }
+
+        return null;
+    }
+
+    private void start(Item item) {
+        final CompletableFuture<TransactionId> submitted;
+
+        try {
+            submitted = item.submission.get();
+        } catch (RuntimeException e) {
+            // failed local validation
+            item.receipt.completeExceptionally(e);
+            onSubmitted(false);
+            return;
+        }
+
+        item.receipt.whenComplete((receipt, e) -> submitted.cancel(false));
+
+        submitted.whenComplete((transactionId, e) -> {
+            onSubmitted(e == null);
+
+            if (e != null) {
+                item.receipt.completeExceptionally(e);
+                return;
+            }
+
+            final CompletableFuture<TransactionReceipt> receipt = receiptPoller.getReceipt(transactionId);
+
+            item.receipt.whenComplete((r, e2) -> receipt.cancel(false));
+
+            receipt.whenComplete((r, e2) -> {
+                synchronized (this) {
+                    pending -= 1;
+                }
+
+                if (e2 != null) {
+                    item.receipt.completeExceptionally(e2);
+                } else {
+                    item.receipt.complete(r);
+                }
+
+                drain();
+            });
+        });
+    }
+
+    /**
+     * Move a transaction out of the submit stage.
+     *
+     * @param accepted whether it moves on to waiting for its receipt, rather than out of the
+     *                 pipeline.
+     */
+    private void onSubmitted(boolean accepted) {
+        synchronized (this) {
+            submitting -= 1;
+
+            if (!accepted) {
+                pending -= 1;
+            }
+        }
+
+        drain();
+    }
+
+    private static final class Item {
+        final Supplier<CompletableFuture<TransactionId>> submission;
+
+        final CompletableFuture<TransactionReceipt> receipt = new CompletableFuture<>();
+
+        Item(Supplier<CompletableFuture<TransactionId>> submission) {
+            this.submission = submission;
+        }
+    }
+}
@@ -1,26 +1,52 @@
 package com.hedera.hashgraph.sdk;
 
 import java.time.Duration;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 final class ThreadUtil {
     private ThreadUtil() { }
 
     static void sleepDuration(Duration duration) {
         try {
-            Thread.sleep(duration.toMillis());
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
         } catch (InterruptedException e) {
+            // let the caller's caller see it too
+            Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
     }
 
-    static void schedule(Runnable runnable, Duration delay) {
-        scheduledExecutor.schedule(runnable, delay.toMillis(), TimeUnit.MILLISECONDS);
+    static ScheduledFuture<?> schedule(ScheduledExecutorService scheduler, Runnable runnable, Duration delay) {
+        return scheduler.schedule(runnable, delay.toNanos(), TimeUnit.NANOSECONDS);
     }
 
-    // we need a background thread to execute timeouts
-    private static final ScheduledExecutorService scheduledExecutor =
-        Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "hedera-async-executor"));
+    /**
+     * The scheduler used for retries, hedges and other delays by any {@link Client} that has not
+     * been given its own with {@link Client#setScheduler(ScheduledExecutorService)}.
+     * <p>
+     * Scheduled tasks only start calls, so a few threads serve any number of calls in flight;
+     * the threads are daemons so pending retries don't keep the JVM alive.
+     */
+    static final ScheduledExecutorService DEFAULT_SCHEDULER = newDefaultScheduler();
+
+    private static ScheduledExecutorService newDefaultScheduler() {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            r -> {
+                final Thread thread = new Thread(r, "hedera-async-executor-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        // cancelled retries would otherwise stay queued until their delay elapses
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        return scheduler;
+    }
 }
@@ -23,11 +23,14 @@ import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PublicKey;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
-import io.grpc.Channel;
+import javax.annotation.Nullable;
+
 import io.grpc.MethodDescriptor;
 
 public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Transaction, TransactionResponse, TransactionId, Transaction> {
@@ -36,7 +39,7 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
 
     private final io.grpc.MethodDescriptor<com.hedera.hashgraph.proto.Transaction, com.hedera.hashgraph.proto.TransactionResponse> methodDescriptor;
     final com.hedera.hashgraph.proto.Transaction.Builder inner;
-    final com.hedera.hashgraph.proto.AccountID nodeAccountId;
+    com.hedera.hashgraph.proto.AccountID nodeAccountId;
     final com.hedera.hashgraph.proto.TransactionID txnIdProto;
 
     // fully qualified to disambiguate
@@ -44,6 +47,17 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
 
     private static final int PREFIX_LEN = 6;
 
+    // every signature added through this object, so the body can be signed again for another node
+    private final List<Signer> signers = new ArrayList<>();
+
+    private int maxNodeFailovers = 0;
+
+    // the nodes this transaction has been sent to and moved away from
+    private final List<Node> failedNodes = new ArrayList<>();
+
+    // an attempt failed in a way that leaves open whether a node received the transaction
+    private volatile boolean possiblySubmitted = false;
+
     public final TransactionId id;
 
     Transaction(
@@ -80,6 +94,13 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
      * @see TransactionSigner
      */
     public Transaction signWith(PublicKey publicKey, TransactionSigner signer) {
+        addSignature(publicKey, signer);
+        signers.add(new Signer(publicKey, signer));
+
+        return this;
+    }
+
+    private void addSignature(PublicKey publicKey, TransactionSigner signer) {
         SignatureMap.Builder sigMap = inner.getSigMapBuilder();
 
         for (SignaturePair sigPair : sigMap.getSigPairList()) {
@@ -114,36 +135,54 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
         }
 
         sigMap.addSigPair(sigPairBuilder);
+    }
+
+    /**
+     * Allow this transaction to move to a different node when the node it was built for is busy
+     * or unreachable, up to the given number of times. Off ({@code 0}) by default.
+     * <p>
+     * On a retryable failure the body is rebuilt for the next best node and signed again with
+     * every key this transaction was signed with through {@link #sign(PrivateKey)} or
+     * {@link #signWith(PublicKey, TransactionSigner)} (including the operator), which may prompt
+     * a {@link TransactionSigner} again. A transaction carrying signatures it can't reproduce,
+     * e.g. one read with {@link #fromBytes(byte[])}, is never moved.
+     * <p>
+     * The transaction ID stays the same, so the network executes the transaction at most once
+     * no matter how many nodes it was submitted to.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public Transaction setMaxNodeFailovers(int maxNodeFailovers) {
+        if (maxNodeFailovers < 0) {
+            throw new IllegalArgumentException("maxNodeFailovers must not be negative");
+        }
 
+        this.maxNodeFailovers = maxNodeFailovers;
         return this;
     }
 
     @Override
     public final TransactionId execute(Client client, Duration timeout) throws HederaStatusException, HederaNetworkException, LocalValidationException {
-        // Sign with the operator if there is a client; the client has an operator; and, the transaction
-        // has a transaction ID that matches that operator ( which it would unless overridden ).
-        if (client.getOperatorPublicKey() != null && client.getOperatorSigner() != null
-            && client.getOperatorId() != null
-            && client.getOperatorId().equals(new AccountId(txnIdProto.getAccountID())))
-        {
-            signWith(client.getOperatorPublicKey(), client.getOperatorSigner());
-        }
+        signWithOperator(client);
 
         return super.execute(client, timeout);
     }
 
     @Override
-    public void executeAsync(Client client, Duration retryTimeout, Consumer<TransactionId> onSuccess, Consumer<HederaThrowable> onError) {
-        // Sign with the operator if there is a client; the client has an operator; and, the transaction
-        // has a transaction ID that matches that operator ( which it would unless overridden ).
-        if (client.getOperatorPublicKey() != null && client.getOperatorSigner() != null
-            && client.getOperatorId() != null
-            && client.getOperatorId().equals(new AccountId(txnIdProto.getAccountID())))
-        {
-            signWith(client.getOperatorPublicKey(), client.getOperatorSigner());
-        }
+    void executeAsync(Client client, Duration retryTimeout, Consumer<TransactionId> onSuccess, Consumer<HederaThrowable> onError, Cancellation cancellation) {
+        signWithOperator(client);
 
-        super.executeAsync(client, retryTimeout, onSuccess, onError);
+        super.executeAsync(client, retryTimeout, onSuccess, onError, cancellation);
+    }
+
+    private void signWithOperator(Client client) {
+        // Sign with the operator if the client has an operator (single or pooled) matching the
+        // account in the transaction ID ( which it would unless overridden ).
+        final OperatorPool.Operator operator = client.getOperatorFor(new AccountId(txnIdProto.getAccountID()));
+
+        if (operator != null) {
+            signWith(operator.publicKey, operator.signer);
+        }
     }
 
     /**
@@ -226,11 +265,58 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
     }
 
     @Override
-    protected Channel getChannel(Client client) {
-        Node channel = client.getNodeForId(new AccountId(nodeAccountId));
-        Objects.requireNonNull(channel, "Transaction.nodeAccountId not found on Client");
+    Node getNode(Client client) {
+        Node node = client.getNodeForId(new AccountId(nodeAccountId));
+        Objects.requireNonNull(node, "Transaction.nodeAccountId not found on Client");
 
-        return channel.getChannel();
+        return node;
+    }
+
+    @Override
+    boolean canFailOver(Client client) {
+        return pickFailOverNode(client) != null;
+    }
+
+    @Override
+    void failOver(Client client) {
+        final Node next = pickFailOverNode(client);
+
+        if (next == null) {
+            return;
+        }
+
+        failedNodes.add(getNode(client));
+
+        final TransactionBody body;
+
+        try {
+            body = TransactionBody.parseFrom(inner.getBodyBytes());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("transaction body failed to parse", e);
+        }
+
+        nodeAccountId = next.accountId.toProto();
+
+        inner.setBodyBytes(body.toBuilder().setNodeAccountID(nodeAccountId).build().toByteString());
+        inner.clearSigMap();
+
+        for (Signer signer : signers) {
+            addSignature(signer.publicKey, signer.signer);
+        }
+    }
+
+    @Nullable
+    private Node pickFailOverNode(Client client) {
+        if (failedNodes.size() >= maxNodeFailovers
+            || signers.size() != inner.getSigMapOrBuilder().getSigPairCount())
+        {
+            return null;
+        }
+
+        final List<Node> exclude = new ArrayList<>(failedNodes);
+        exclude.add(getNode(client));
+
+        return client.pickNodeOtherThan(exclude);
     }
 
     @Override
@@ -267,8 +353,33 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
         checkValidationErrors("Transaction failed validation");
     }
 
+    @Override
+    protected boolean shouldRetry(HederaThrowable e) {
+        if (e instanceof HederaNetworkException) {
+            // e.g. a deadline that passed after the node received the transaction
+            possiblySubmitted = true;
+        }
+
+        return super.shouldRetry(e);
+    }
+
+    /**
+     * Whether an attempt to submit this transaction failed in a way that leaves open whether a
+     * node received it (e.g. a transport error or a deadline), so it may yet reach consensus.
+     */
+    boolean isPossiblySubmitted() {
+        return possiblySubmitted;
+    }
+
     @Override
     protected TransactionId mapResponse(TransactionResponse response) throws HederaStatusException {
+        if (possiblySubmitted
+            && Status.valueOf(response.getNodeTransactionPrecheckCode()) == Status.DuplicateTransaction)
+        {
+            // an earlier attempt reached the network after all
+            return new TransactionId(txnIdProto);
+        }
+
         HederaPrecheckStatusException.throwIfExceptional(response.getNodeTransactionPrecheckCode(), id);
         return new TransactionId(txnIdProto);
     }
@@ -358,4 +469,14 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
                 throw new IllegalArgumentException("unsupported method");
         }
     }
+
+    private static final class Signer {
+        private final PublicKey publicKey;
+        private final TransactionSigner signer;
+
+        private Signer(PublicKey publicKey, TransactionSigner signer) {
+            this.publicKey = publicKey;
+            this.signer = signer;
+        }
+    }
 }
@@ -10,8 +10,6 @@ import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
-import io.grpc.Channel;
-
 public abstract class TransactionBuilder<Resp, O, T extends TransactionBuilder<Resp, O, T>>
     extends HederaCall<com.hedera.hashgraph.proto.Transaction, TransactionResponse, Resp, T>
 {
@@ -131,8 +129,9 @@ public abstract class TransactionBuilder<Resp, O, T extends TransactionBuilder<R
      * set:
      *
      * <ul>
-     *     <li>{@link #setNodeAccountId(AccountId)}, if not manually set, is set with a random node
-     *     chosen from the set that {@link Client} was constructed with</li>
+     *     <li>{@link #setNodeAccountId(AccountId)}, if not manually set, is set with a node
+     *     chosen from the set that {@link Client} was constructed with, preferring nodes that
+     *     have recently been fast and error-free</li>
      *     <li>{@link #setMaxTransactionFee(Hbar)}, if not manually set, is set
      *     with the value of {@link Client#getMaxTransactionFee()}</li>
      *     <li>{@link #setTransactionId(TransactionId)} is set by calling
@@ -178,11 +177,11 @@ public abstract class TransactionBuilder<Resp, O, T extends TransactionBuilder<R
     }
 
     @Override
-    protected Channel getChannel(Client client) {
+    Node getNode(Client client) {
         if (bodyBuilder.hasNodeAccountID()) {
-            return client.getNodeForId(new AccountId(bodyBuilder.getNodeAccountID())).getChannel();
+            return client.getNodeForId(new AccountId(bodyBuilder.getNodeAccountID()));
         } else {
-            return client.pickNode().getChannel();
+            return client.pickNode();
         }
     }
 
@@ -0,0 +1,90 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.QueryHeader;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.TransactionGetFastRecordQuery;
+
+import java.time.Duration;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * Get the record of a transaction from the node it was submitted to, as soon as it has reached
+ * consensus.
+ * <p>
+ * Unlike {@link TransactionRecordQuery}, which is only answered once the record is available,
+ * this query can be sent straight after the transaction and is retried, like a
+ * {@link TransactionReceiptQuery}, until the record appears; there is no need to wait for the
+ * receipt first. Fast records are only kept for a short time (180 seconds) after consensus.
+ *
+ * @see TransactionId#getFastRecord(Client)
+ */
+public final class TransactionFastRecordQuery extends QueryBuilder<TransactionRecord, TransactionFastRecordQuery> {
+    private final TransactionGetFastRecordQuery.Builder builder = inner.getTransactionGetFastRecordBuilder();
+
+    public TransactionFastRecordQuery() {
+        super();
+    }
+
+    @Override
+    protected QueryHeader.Builder getHeaderBuilder() {
+        return builder.getHeaderBuilder();
+    }
+
+    public TransactionFastRecordQuery setTransactionId(TransactionId transactionId) {
+        builder.setTransactionID(transactionId.toProto());
+        return this;
+    }
+
+    @Override
+    protected boolean shouldRetry(HederaThrowable e) {
+        if (super.shouldRetry(e)) {
+            return true;
+        } else if (!(e instanceof HederaStatusException)) {
+            return false;
+        }
+
+        switch (((HederaStatusException) e).status) {
+            // still in the node's queue or has not reached consensus
+            case Unknown:
+            // has reached consensus but not generated
+            case ReceiptNotFound:
+            case RecordNotFound:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    protected MethodDescriptor<Query, Response> getMethod() {
+        return CryptoServiceGrpc.getGetFastTransactionRecordMethod();
+    }
+
+    @Override
+    protected TransactionRecord extractResponse(Response raw) {
+        return new TransactionRecord(
+            raw.getTransactionGetFastRecord()
+                .getTransactionRecord());
+    }
+
+    @Override
+    void onResponse(Client client, Node node, TransactionRecord record) {
+        if (record.consensusTimestamp != null) {
+            node.clockSkew.recordConsensusTime(record.consensusTimestamp, client.getClock().instant());
+        }
+    }
+
+    @Override
+    protected void doValidate() {
+        require(builder.hasTransactionID(), ".setTransactionId() required");
+    }
+
+    @Override
+    protected Duration getDefaultTimeout() {
+        // as for a receipt, we can't know ahead of time when consensus will be reached
+        return Transaction.MAX_VALID_DURATION.plus(Duration.ofMinutes(3));
+    }
+}
@@ -23,8 +23,8 @@ public final class TransactionId {
 
     private final TransactionID.Builder inner;
 
-    @Nullable
-    private static Instant lastInstant;
+    // allows the transaction to be accepted as long as the node is not this far behind us
+    static final Duration DEFAULT_VALID_START_OFFSET = Duration.ofSeconds(10);
 
     private TransactionId(AccountId accountId, Instant transactionValidStart) {
         inner = TransactionID.newBuilder()
@@ -46,7 +46,25 @@ public final class TransactionId {
      * any transaction fees.
      */
     public TransactionId(AccountId accountId) {
-        this(accountId, getIncreasingInstant());
+        this(accountId, nextValidStart(accountId, Clock.systemUTC(), DEFAULT_VALID_START_OFFSET));
+    }
+
+    /**
+     * Generates a new transaction ID for the given `accountId`, as
+     * {@link #TransactionId(AccountId)} does, taking the current time from {@code clock}.
+     *
+     * @see Client#setClock(Clock)
+     */
+    public static TransactionId generate(AccountId accountId, Clock clock) {
+        return generate(accountId, clock, DEFAULT_VALID_START_OFFSET);
+    }
+
+    /**
+     * Generate a new transaction ID with a valid start {@code validStartOffset} before the
+     * current time.
+     */
+    static TransactionId generate(AccountId accountId, Clock clock, Duration validStartOffset) {
+        return new TransactionId(accountId, nextValidStart(accountId, clock, validStartOffset));
     }
 
     /**
@@ -133,6 +151,8 @@ public final class TransactionId {
                 } else {
                     onSuccess.run();
                 }
+            } else {
+                onError.accept(e);
             }
         };
 
@@ -175,12 +195,19 @@ public final class TransactionId {
             .execute(client);
     }
 
+    /**
+     * Wait for consensus on this transaction and get its record, taking no longer than
+     * {@code timeout} overall; the record query gets whatever time the wait for consensus
+     * left over.
+     */
     public TransactionRecord getRecord(Client client, Duration timeout) throws HederaStatusException {
+        final Instant deadline = Instant.now().plus(timeout);
+
         waitForConsensus(client, timeout);
 
         return new TransactionRecordQuery()
             .setTransactionId(this)
-            .execute(client, timeout);
+            .execute(client, remainingUntil(deadline));
     }
 
     public void getRecordAsync(Client client, Consumer<TransactionRecord> onRecord, Consumer<HederaThrowable> onError) {
@@ -191,27 +218,70 @@ public final class TransactionId {
         }, onError);
     }
 
+    /**
+     * As {@link #getRecord(Client, Duration)} but asynchronously.
+     */
     public void getRecordAsync(Client client, Duration timeout, Consumer<TransactionRecord> onRecord, Consumer<HederaThrowable> onError) {
+        final Instant deadline = Instant.now().plus(timeout);
+
         waitForConsensusAsync(client, timeout, () -> {
             new TransactionRecordQuery()
                 .setTransactionId(this)
-                .executeAsync(client, timeout, onRecord, onError);
+                .executeAsync(client, remainingUntil(deadline), onRecord, onError);
         }, onError);
     }
 
-    // `synchronized` is necessary for correctness with multiple threads
-    private static synchronized Instant getIncreasingInstant() {
-        // Allows the transaction to be accepted as long as the
-        // server is not more than 10 seconds behind us
-        final Instant instant = Clock.systemUTC()
-            .instant()
-            .minusSeconds(10);
+    /**
+     * Get the record of this transaction with a single {@link TransactionFastRecordQuery},
+     * which is retried until the transaction reaches consensus, rather than waiting for its
+     * receipt before a {@link TransactionRecordQuery} as {@link #getRecord(Client)} does.
+     * <p>
+     * This saves a chain of round trips for transactions whose record is wanted straight away,
+     * but the fast record is only kept for a short time after consensus, so it must be fetched
+     * promptly.
+     */
+    public TransactionRecord getFastRecord(Client client) throws HederaStatusException, HederaNetworkException {
+        return new TransactionFastRecordQuery()
+            .setTransactionId(this)
+            .execute(client);
+    }
+
+    /**
+     * As {@link #getFastRecord(Client)}, taking no longer than {@code timeout}.
+     */
+    public TransactionRecord getFastRecord(Client client, Duration timeout) throws HederaStatusException, HederaNetworkException {
+        return new TransactionFastRecordQuery()
+            .setTransactionId(this)
+            .execute(client, timeout);
+    }
+
+    /**
+     * As {@link #getFastRecord(Client)} but asynchronously.
+     */
+    public void getFastRecordAsync(Client client, Consumer<TransactionRecord> onRecord, Consumer<HederaThrowable> onError) {
+        new TransactionFastRecordQuery()
+            .setTransactionId(this)
+            .executeAsync(client, onRecord, onError);
+    }
+
+    /**
+     * As {@link #getFastRecord(Client, Duration)} but asynchronously.
+     */
+    public void getFastRecordAsync(Client client, Duration timeout, Consumer<TransactionRecord> onRecord, Consumer<HederaThrowable> onError) {
+        new TransactionFastRecordQuery()
+            .setTransactionId(this)
+            .executeAsync(client, timeout, onRecord, onError);
+    }
 
-        // ensures every instant is at least always greater than the last
-        lastInstant = lastInstant != null && instant.compareTo(lastInstant) <= 0
-            ? lastInstant.plusNanos(1)
-            : instant;
+    private static Duration remainingUntil(Instant deadline) {
+        final Duration remaining = Duration.between(Instant.now(), deadline);
+
+        // the record query is still attempted once
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
 
-        return lastInstant;
+    private static Instant nextValidStart(AccountId accountId, Clock clock, Duration validStartOffset) {
+        // ensures every instant is unique for the same account
+        return TransactionIdGenerator.SHARED.next(accountId, clock.instant().minus(validStartOffset));
     }
 }
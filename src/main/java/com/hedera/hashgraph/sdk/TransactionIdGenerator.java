@@ -0,0 +1,111 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out transaction valid start times that are unique per payer account.
+ * <p>
+ * Each payer has its own record of the valid starts recently given out, in nanoseconds since
+ * the epoch; threads generating IDs for different payers never touch the same record and only
+ * threads for the same payer wait on each other.
+ * <p>
+ * A valid start is never moved materially later than asked for: valid starts for one payer are
+ * asked for with different offsets from our clock when the nodes they are sent to have different
+ * clocks (see {@link Client#setClockSkewEstimation(boolean)}), and a valid start pushed past the
+ * one asked for could be in the future of a node whose clock is behind.
+ */
+final class TransactionIdGenerator {
+    // shared by every clock and client so IDs are unique across the JVM
+    static final TransactionIdGenerator SHARED = new TransactionIdGenerator();
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // how much later than asked a valid start may be, so that starts asked for in a burst within
+    // one tick of a coarse clock still increase
+    private static final long MAX_LATER_NANOS = 1_000_000L;
+
+    // how long valid starts are remembered for; valid starts for one payer are asked for at most
+    // the default valid start offset apart, so this leaves room for our clock being stepped back
+    private static final long RETAIN_NANOS = 30 * NANOS_PER_SECOND;
+
+    // one entry per payer seen, which is expected to be a handful of operator accounts
+    private final ConcurrentMap<AccountId, UsedValidStarts> usedByPayer = new ConcurrentHashMap<>();
+
+    /**
+     * Get a valid start for a transaction paid for by {@code payer} that is different from every
+     * valid start recently returned for {@code payer}.
+     * <p>
+     * This is {@code requested} if that hasn't been used. Otherwise, it is the first unused
+     * nanosecond after it if that is less than a millisecond later, so that valid starts asked
+     * for at the same instant increase, or else the first unused nanosecond before it.
+     */
+    Instant next(AccountId payer, Instant requested) {
+        final UsedValidStarts used = usedByPayer.computeIfAbsent(payer, k -> new UsedValidStarts());
+
+        return Instant.ofEpochSecond(0, used.next(toEpochNanos(requested)));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        // overflows in the year 2262
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    private static final class UsedValidStarts {
+        // runs of consecutive used valid starts, from the first to the last of each; runs never
+        // touch, so the nanoseconds either side of a run are unused
+        // guarded by `this`
+        private final TreeMap<Long, Long> runs = new TreeMap<>();
+
+        synchronized long next(long requested) {
+            forgetBefore(requested - RETAIN_NANOS);
+
+            final Map.Entry<Long, Long> run = runs.floorEntry(requested);
+            final long next;
+
+            if (run == null || run.getValue() < requested) {
+                next = requested;
+            } else if (run.getValue() - requested < MAX_LATER_NANOS) {
+                next = run.getValue() + 1;
+            } else {
+                next = run.getKey() - 1;
+            }
+
+            use(next);
+
+            return next;
+        }
+
+        private void use(long validStart) {
+            long first = validStart;
+            long last = validStart;
+
+            final Map.Entry<Long, Long> before = runs.floorEntry(validStart - 1);
+
+            if (before != null && before.getValue() == validStart - 1) {
+                first = before.getKey();
+            }
+
+            final Long after = runs.remove(validStart + 1);
+
+            if (after != null) {
+                last = after;
+            }
+
+            runs.put(first, last);
+        }
+
+        private void forgetBefore(long validStart) {
+            Map.Entry<Long, Long> oldest;
+
+            while ((oldest = runs.firstEntry()) != null && oldest.getValue() < validStart) {
+                runs.remove(oldest.getKey());
+            }
+        }
+    }
+}
@@ -4,9 +4,14 @@ import com.hedera.hashgraph.sdk.crypto.PrivateKey;
 import com.hedera.hashgraph.sdk.crypto.PublicKey;
 import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
 
 public class TransactionList {
     private final Collection<Transaction> transactions;
@@ -41,4 +46,89 @@ public class TransactionList {
 
         return ids;
     }
+
+    /**
+     * Execute every transaction in order as {@link #executeAllFuture(Client)} does, completing
+     * with the ID of the first.
+     */
+    public final CompletableFuture<TransactionId> executeFuture(Client client) {
+        return first(executeAllFuture(client));
+    }
+
+    /**
+     * As {@link #executeFuture(Client)} with the given timeout for the retries of each
+     * transaction.
+     */
+    public final CompletableFuture<TransactionId> executeFuture(Client client, Duration retryTimeout) {
+        return first(executeAllFuture(client, retryTimeout));
+    }
+
+    /**
+     * Execute every transaction in order, each once the one before has been accepted, as
+     * {@link #executeAll(Client)} does.
+     * <p>
+     * Cancelling the returned future cancels the transaction in flight and the rest are not
+     * sent.
+     */
+    public final CompletableFuture<List<TransactionId>> executeAllFuture(Client client) {
+        final CompletableFuture<List<TransactionId>> result = new CompletableFuture<>();
+
+        executeNext(client, null, transactions.iterator(), new ArrayList<>(), result);
+
+        return result;
+    }
+
+    /**
+     * As {@link #executeAllFuture(Client)} with the given timeout for the retries of each
+     * transaction.
+     */
+    public final CompletableFuture<List<TransactionId>> executeAllFuture(Client client, Duration retryTimeout) {
+        final CompletableFuture<List<TransactionId>> result = new CompletableFuture<>();
+
+        executeNext(client, retryTimeout, transactions.iterator(), new ArrayList<>(), result);
+
+        return result;
+    }
+
+    private static CompletableFuture<TransactionId> first(CompletableFuture<List<TransactionId>> all) {
+        final CompletableFuture<TransactionId> first = all.thenApply(ids -> ids.get(0));
+
+        first.whenComplete((id, e) -> all.cancel(false));
+
+        return first;
+    }
+
+    /**
+     * @param retryTimeout the timeout for each transaction, or {@code null} for its default.
+     */
+    private static void executeNext(
+        Client client,
+        @Nullable Duration retryTimeout,
+        Iterator<Transaction> remaining,
+        List<TransactionId> ids,
+        CompletableFuture<List<TransactionId>> result)
+    {
+        if (result.isDone()) return;
+
+        if (!remaining.hasNext()) {
+            result.complete(ids);
+            return;
+        }
+
+        final Transaction transaction = remaining.next();
+        final CompletableFuture<TransactionId> next = retryTimeout != null
+            ? transaction.executeFuture(client, retryTimeout)
+            : transaction.executeFuture(client);
+
+        result.whenComplete((all, e) -> next.cancel(false));
+
+        next.whenComplete((id, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                ids.add(id);
+                executeNext(client, retryTimeout, remaining, ids, result);
+            }
+        });
+    }
 }
@@ -37,6 +37,13 @@ public class TransactionRecordQuery extends QueryBuilder<TransactionRecord, Tran
                     .getTransactionRecord());
     }
 
+    @Override
+    void onResponse(Client client, Node node, TransactionRecord record) {
+        if (record.consensusTimestamp != null) {
+            node.clockSkew.recordConsensusTime(record.consensusTimestamp, client.getClock().instant());
+        }
+    }
+
     @Override
     protected void doValidate() {
         require(builder.hasTransactionID(), ".setTransactionId() required");
@@ -7,9 +7,11 @@ import com.hedera.hashgraph.sdk.*;
 import io.grpc.MethodDescriptor;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ConsensusMessageSubmitTransaction extends TransactionBuilder<TransactionId, TransactionList, ConsensusMessageSubmitTransaction> {
     private static final int CHUNK_SIZE = 4096;
@@ -76,6 +78,24 @@ public class ConsensusMessageSubmitTransaction extends TransactionBuilder<Transa
         return build(client).execute(client);
     }
 
+    public CompletableFuture<List<TransactionId>> executeAllFuture(Client client) {
+        return build(client).executeAllFuture(client);
+    }
+
+    public CompletableFuture<List<TransactionId>> executeAllFuture(Client client, Duration retryTimeout) {
+        return build(client).executeAllFuture(client, retryTimeout);
+    }
+
+    @Override
+    public CompletableFuture<TransactionId> executeFuture(Client client) {
+        return build(client).executeFuture(client);
+    }
+
+    @Override
+    public CompletableFuture<TransactionId> executeFuture(Client client, Duration retryTimeout) {
+        return build(client).executeFuture(client, retryTimeout);
+    }
+
     @Override
     public TransactionList build(@Nullable Client client) throws LocalValidationException {
         if (chunkInfo != null) {
@@ -98,7 +118,7 @@ public class ConsensusMessageSubmitTransaction extends TransactionBuilder<Transa
                 throw new IllegalStateException("client must have an operator or set a transaction ID to build a consensus message transaction");
             }
 
-            initialTransactionId = new TransactionId(client.getOperatorId());
+            initialTransactionId = TransactionId.generate(client.getOperatorId(), client.getClock());
         } else {
             initialTransactionId = new TransactionId(bodyBuilder.getTransactionID());
         }
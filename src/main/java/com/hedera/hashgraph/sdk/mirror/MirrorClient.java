@@ -1,20 +1,58 @@
 package com.hedera.hashgraph.sdk.mirror;
 
+import com.hedera.hashgraph.sdk.CallbackExecutors;
+import com.hedera.hashgraph.sdk.ChannelOptions;
+
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 
-import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
 public class MirrorClient implements AutoCloseable {
     final ManagedChannel channel;
 
+    @Nullable
+    private Executor callbackExecutor;
+
     public MirrorClient(String endpoint) {
-        channel = ManagedChannelBuilder.forTarget(endpoint)
-            .keepAliveTime(2, TimeUnit.MINUTES)
-            .usePlaintext()
-            .build();
+        this(endpoint, new ChannelOptions()
+            .setKeepAliveTime(Duration.ofMinutes(2)));
+    }
+
+    /**
+     * Connect to a mirror node with the given transport options.
+     * <p>
+     * Subscriptions are long-lived streams, so you will usually want to set
+     * {@link ChannelOptions#setKeepAliveTime(Duration)}; the single-argument constructor uses
+     * 2 minutes.
+     */
+    public MirrorClient(String endpoint, ChannelOptions channelOptions) {
+        channel = channelOptions.buildChannel(endpoint);
+    }
+
+    /**
+     * Set the executor that runs subscription callbacks for subscriptions made with this client.
+     * <p>
+     * By default callbacks run directly on the gRPC thread that received the message, so a slow
+     * subscriber holds up the stream. Messages of one subscription are delivered one at a time
+     * and in order whichever executor is used. Individual subscriptions can override this with
+     * {@link MirrorConsensusTopicQuery#setCallbackExecutor(Executor)}.
+     *
+     * @param callbackExecutor the executor, or {@code null} to run callbacks directly.
+     * @return {@code this} for fluent usage.
+     * @see CallbackExecutors
+     */
+    public MirrorClient setCallbackExecutor(@Nullable Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
+
+    @Nullable
+    Executor getCallbackExecutor() {
+        return callbackExecutor;
     }
 
     @Override
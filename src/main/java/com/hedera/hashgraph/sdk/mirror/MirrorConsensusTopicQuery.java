@@ -16,11 +16,17 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
 public class MirrorConsensusTopicQuery {
     private ConsensusTopicQuery.Builder builder;
 
+    @Nullable
+    private Executor callbackExecutor;
+
     public MirrorConsensusTopicQuery() {
         builder = ConsensusTopicQuery.newBuilder();
     }
@@ -45,12 +51,28 @@ public class MirrorConsensusTopicQuery {
         return this;
     }
 
+    /**
+     * Set the executor that runs the callbacks of this subscription; overrides
+     * {@link MirrorClient#setCallbackExecutor(Executor)}.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public MirrorConsensusTopicQuery setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
+
     // TODO: Refactor into a base class when we add more mirror query types
     public MirrorSubscriptionHandle subscribe(
         MirrorClient mirrorClient,
         Consumer<MirrorConsensusTopicResponse> onNext,
         Consumer<Throwable> onError)
     {
+        final Executor executor = callbackExecutor != null ? callbackExecutor : mirrorClient.getCallbackExecutor();
+
+        // one serializing executor per subscription so its messages stay in order
+        final Executor deliver = executor != null ? new SerializingExecutor(executor) : Runnable::run;
+
         final ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
             mirrorClient.channel.newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
 
@@ -65,7 +87,8 @@ public class MirrorConsensusTopicQuery {
             public void onNext(ConsensusTopicResponse consensusTopicResponse) {
                 if (!consensusTopicResponse.hasChunkInfo()) {
                     // short circuit for no chunks
-                    onNext.accept(MirrorConsensusTopicResponse.ofSingle(consensusTopicResponse));
+                    final MirrorConsensusTopicResponse response = MirrorConsensusTopicResponse.ofSingle(consensusTopicResponse);
+                    deliver.execute(() -> onNext.accept(response));
                     return;
                 }
 
@@ -82,13 +105,14 @@ public class MirrorConsensusTopicQuery {
 
                 // if we now have enough chunks, emit
                 if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
-                    onNext.accept(MirrorConsensusTopicResponse.ofMany(chunks));
+                    final MirrorConsensusTopicResponse response = MirrorConsensusTopicResponse.ofMany(chunks);
+                    deliver.execute(() -> onNext.accept(response));
                 }
             }
 
             @Override
             public void onError(Throwable throwable) {
-                onError.accept(throwable);
+                deliver.execute(() -> onError.accept(throwable));
             }
 
             @Override
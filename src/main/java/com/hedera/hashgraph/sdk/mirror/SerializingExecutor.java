@@ -0,0 +1,64 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs tasks on another executor one at a time and in the order they were submitted, so the
+ * messages of a subscription are delivered in order even on a thread pool.
+ */
+final class SerializingExecutor implements Executor {
+    private final Executor executor;
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    // true while a drain of `tasks` is submitted to or running on `executor`
+    private boolean draining = false;
+
+    SerializingExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (this) {
+            tasks.add(task);
+
+            if (draining) return;
+
+            draining = true;
+        }
+
+        executor.execute(this::drain);
+    }
+
+    private void drain() {
+        for (;;) {
+            @Nullable final Runnable task;
+
+            synchronized (this) {
+                task = tasks.poll();
+
+                if (task == null) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            boolean completed = false;
+
+            try {
+                task.run();
+                completed = true;
+            } finally {
+                if (!completed) {
+                    // carry on with the rest of the queue after the task's exception propagates
+                    executor.execute(this::drain);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.NodeAddress;
+import com.hedera.hashgraph.proto.NodeAddressBook;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AddressBookRefresherTest {
+    @Test
+    @DisplayName("address book parses to plaintext node addresses")
+    void parsesAddressBook() {
+        final byte[] contents = NodeAddressBook.newBuilder()
+            .addNodeAddress(NodeAddress.newBuilder()
+                .setIpAddress(ByteString.copyFromUtf8("35.237.200.180"))
+                .setPortno(50211)
+                .setNodeAccountId(new AccountId(3).toProto()))
+            // TLS endpoint for the same node is skipped
+            .addNodeAddress(NodeAddress.newBuilder()
+                .setIpAddress(ByteString.copyFromUtf8("35.237.200.180"))
+                .setPortno(50212)
+                .setNodeAccountId(new AccountId(3).toProto()))
+            // older entries only have the account ID in the memo
+            .addNodeAddress(NodeAddress.newBuilder()
+                .setIpAddress(ByteString.copyFromUtf8("35.186.191.247"))
+                .setMemo(ByteString.copyFromUtf8("0.0.4")))
+            .build()
+            .toByteArray();
+
+        final Map<AccountId, String> expected = new HashMap<>();
+        expected.put(new AccountId(3), "35.237.200.180:50211");
+        expected.put(new AccountId(4), "35.186.191.247:50211");
+
+        assertEquals(expected, AddressBookRefresher.parse(contents));
+    }
+
+    @Test
+    @DisplayName("a corrupt address book or an invalid node account ID fails to parse")
+    void invalidAddressBook() {
+        assertThrows(AddressBookParseException.class,
+            () -> AddressBookRefresher.parse(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff }));
+
+        final byte[] badMemo = NodeAddressBook.newBuilder()
+            .addNodeAddress(NodeAddress.newBuilder()
+                .setIpAddress(ByteString.copyFromUtf8("35.186.191.247"))
+                .setMemo(ByteString.copyFromUtf8("not an account")))
+            .build()
+            .toByteArray();
+
+        assertThrows(AddressBookParseException.class, () -> AddressBookRefresher.parse(badMemo));
+    }
+}
@@ -0,0 +1,85 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AimdLimiterTest {
+    @Test
+    @DisplayName("grows by about one per window of successes")
+    void additiveIncrease() {
+        final AimdLimiter limiter = new AimdLimiter(new AdmissionControl().setInitialLimit(4));
+
+        for (int i = 0; i < 4; i++) {
+            final AimdLimiter.Permit permit = limiter.tryAcquire();
+            assertNotNull(permit);
+            permit.release(AimdLimiter.Outcome.SUCCESS);
+        }
+
+        assertTrue(limiter.getLimit() > 4.9 && limiter.getLimit() < 5);
+    }
+
+    @Test
+    @DisplayName("a burst of BUSY responses only decreases once")
+    void multiplicativeDecrease() {
+        final AimdLimiter limiter = new AimdLimiter(new AdmissionControl()
+            .setInitialLimit(8)
+            .setMinLimit(3));
+
+        final List<AimdLimiter.Permit> permits = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+
+        assertNull(limiter.tryAcquire());
+
+        for (AimdLimiter.Permit permit : permits) {
+            permit.release(AimdLimiter.Outcome.OVERLOADED);
+        }
+
+        assertEquals(4, limiter.getLimit());
+
+        // permits acquired after the decrease can decrease again, but not below the minimum
+        limiter.tryAcquire().release(AimdLimiter.Outcome.OVERLOADED);
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("waiting calls are admitted as permits are released")
+    void queuedAdmission() {
+        final AimdLimiter limiter = new AimdLimiter(new AdmissionControl().setInitialLimit(1));
+        final List<AimdLimiter.Permit> admitted = new ArrayList<>();
+
+        limiter.acquire(admitted::add);
+        limiter.acquire(admitted::add);
+
+        assertEquals(1, admitted.size());
+        assertEquals(1, limiter.getWaiting());
+
+        admitted.get(0).release(AimdLimiter.Outcome.IGNORED);
+
+        assertEquals(2, admitted.size());
+        assertEquals(0, limiter.getWaiting());
+        assertEquals(1, limiter.getInFlight());
+
+        // releasing twice has no effect
+        admitted.get(0).release(AimdLimiter.Outcome.IGNORED);
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("settings are validated")
+    void validation() {
+        assertThrows(IllegalArgumentException.class, () -> new AdmissionControl().setInitialLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> new AdmissionControl().setDecreaseFactor(1));
+    }
+}
@@ -0,0 +1,42 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.ManagedChannel;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChannelOptionsTest {
+    @Test
+    @DisplayName("every option applies to a channel")
+    void buildsChannelWithAllOptions() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        final ManagedChannel channel = new ChannelOptions()
+            .setExecutor(executor)
+            .setKeepAliveTime(Duration.ofMinutes(2))
+            .setKeepAliveTimeout(Duration.ofSeconds(20))
+            .setKeepAliveWithoutCalls(true)
+            .setIdleTimeout(Duration.ofMinutes(5))
+            .setMaxInboundMessageSize(16 * 1024 * 1024)
+            .setFlowControlWindow(4 * 1024 * 1024)
+            .buildChannel("0.testnet.hedera.com:50211");
+
+        assertTrue(channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("sizes must be positive")
+    void sizesMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ChannelOptions().setMaxInboundMessageSize(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChannelOptions().setFlowControlWindow(-1));
+    }
+}
@@ -0,0 +1,38 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Channel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChannelPoolTest {
+    @Test
+    @DisplayName("idle pool spreads calls over every channel")
+    void idlePoolRotates() throws InterruptedException {
+        final ChannelPool pool = new ChannelPool("0.testnet.hedera.com:50211", 3, new ChannelOptions());
+
+        final Set<Channel> seen = new HashSet<>();
+
+        for (int i = 0; i < 3; i++) {
+            seen.add(pool.next());
+        }
+
+        assertEquals(3, seen.size());
+        assertEquals(0, pool.getActiveCalls());
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("pool size must be positive")
+    void sizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ChannelPool("0.testnet.hedera.com:50211", 0, new ChannelOptions()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+    @Test
+    @DisplayName("opens after consecutive failures")
+    void opensAfterThreshold() {
+        final CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertTrue(breaker.isClosed());
+
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        // cooldown has not elapsed
+        assertFalse(breaker.tryBeginProbe());
+    }
+
+    @Test
+    @DisplayName("half-open probe closes or reopens the breaker")
+    void halfOpenProbe() {
+        final CircuitBreaker breaker = new CircuitBreaker(1, Duration.ZERO, Duration.ZERO);
+
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertTrue(breaker.tryBeginProbe());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // only one probe at a time
+        assertFalse(breaker.tryBeginProbe());
+
+        breaker.endProbe(false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        assertTrue(breaker.tryBeginProbe());
+        breaker.endProbe(true);
+        assertTrue(breaker.isClosed());
+    }
+}
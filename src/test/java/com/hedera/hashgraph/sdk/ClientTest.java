@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,4 +50,88 @@ class ClientTest {
         Assertions.assertNotNull(client.getNodeForId(new AccountId(5)));
         Assertions.assertThrows(IllegalArgumentException.class, () -> client.getNodeForId(new AccountId(3)));
     }
+
+    @Test
+    @DisplayName("replaceNodes() keeps unchanged nodes")
+    void testReplaceNodesKeepsUnchanged() {
+        Map<AccountId, String> nodes = new HashMap<>();
+        nodes.put(new AccountId(3), "0.testnet.hedera.com:50211");
+        nodes.put(new AccountId(4), "1.testnet.hedera.com:50211");
+
+        Client client = new Client(nodes);
+        Node unchanged = client.getNodeForId(new AccountId(3));
+        Node moved = client.getNodeForId(new AccountId(4));
+
+        nodes.put(new AccountId(4), "2.testnet.hedera.com:50211");
+        client.replaceNodes(nodes);
+
+        Assertions.assertSame(unchanged, client.getNodeForId(new AccountId(3)));
+        Assertions.assertNotSame(moved, client.getNodeForId(new AccountId(4)));
+        Assertions.assertEquals("2.testnet.hedera.com:50211", client.getNodeForId(new AccountId(4)).address);
+    }
+
+    @Test
+    @DisplayName("setChannelPoolSize() rejects sizes below 1")
+    void testSetChannelPoolSize() {
+        Client client = Client.forTestnet();
+
+        Assertions.assertEquals(1, client.getChannelPoolSize());
+        Assertions.assertEquals(4, client.setChannelPoolSize(4).getChannelPoolSize());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> client.setChannelPoolSize(0));
+    }
+
+    @Test
+    @DisplayName("warmUp() reports unreachable nodes")
+    void testWarmUpUnreachable() throws Exception {
+        Map<AccountId, String> nodes = new HashMap<>();
+        // nothing listens on port 1 so these connections are refused
+        nodes.put(new AccountId(3), "127.0.0.1:1");
+        nodes.put(new AccountId(4), "127.0.0.1:1");
+
+        try (Client client = new Client(nodes)) {
+            Map<AccountId, Boolean> reachable = client.warmUp(Duration.ofMillis(500));
+
+            Assertions.assertEquals(2, reachable.size());
+            Assertions.assertFalse(reachable.get(new AccountId(3)));
+            Assertions.assertFalse(reachable.get(new AccountId(4)));
+        }
+    }
+
+    @Test
+    @DisplayName("setAdmissionControl() shares one limiter unless per node")
+    void testSetAdmissionControl() {
+        Client client = Client.forTestnet();
+        Node node3 = client.getNodeForId(new AccountId(3));
+        Node node4 = client.getNodeForId(new AccountId(4));
+
+        Assertions.assertNull(node3.getLimiter());
+
+        client.setAdmissionControl(new AdmissionControl());
+        Assertions.assertNotNull(node3.getLimiter());
+        Assertions.assertSame(node3.getLimiter(), node4.getLimiter());
+
+        client.setAdmissionControl(new AdmissionControl().setPerNode(true));
+        Assertions.assertNotNull(node3.getLimiter());
+        Assertions.assertNotSame(node3.getLimiter(), node4.getLimiter());
+
+        client.setAdmissionControl(null);
+        Assertions.assertNull(node3.getLimiter());
+    }
+
+    @Test
+    @DisplayName("setInFlightLimit() sets up client and node limits")
+    void testSetInFlightLimit() {
+        Client client = Client.forTestnet();
+
+        Assertions.assertNull(client.getInFlightStats());
+        Assertions.assertNull(client.getInFlightStats(new AccountId(3)));
+
+        client.setInFlightLimit(new InFlightLimit().setMaxInFlight(10));
+        Assertions.assertNotNull(client.getInFlightStats());
+        Assertions.assertNull(client.getInFlightStats(new AccountId(3)));
+
+        client.setInFlightLimit(new InFlightLimit().setMaxInFlightPerNode(2));
+        Assertions.assertNull(client.getInFlightStats());
+        Assertions.assertEquals(0, client.getInFlightStats(new AccountId(3)).inFlight);
+    }
 }
@@ -0,0 +1,123 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ClockSkewEstimatorTest {
+    private static final Instant NOW = Instant.ofEpochSecond(1_554_158_542);
+
+    private static final Duration DEFAULT_OFFSET = TransactionId.DEFAULT_VALID_START_OFFSET;
+
+    @Test
+    @DisplayName("the estimate is the tightest recent bound")
+    void tightestBound() {
+        final ClockSkewEstimator estimator = new ClockSkewEstimator();
+
+        assertNull(estimator.getOffset());
+
+        estimator.recordConsensusTime(NOW.minusSeconds(3), NOW);
+        estimator.recordConsensusTime(NOW.minusSeconds(1), NOW);
+        estimator.recordConsensusTime(NOW.minusSeconds(2), NOW);
+
+        assertEquals(Duration.ofSeconds(-1), estimator.getOffset());
+    }
+
+    @Test
+    @DisplayName("old samples age out")
+    void samplesAgeOut() {
+        final ClockSkewEstimator estimator = new ClockSkewEstimator();
+
+        estimator.recordConsensusTime(NOW, NOW);
+
+        for (int i = 0; i < 16; i++) {
+            estimator.recordConsensusTime(NOW.minusSeconds(4), NOW);
+        }
+
+        assertEquals(Duration.ofSeconds(-4), estimator.getOffset());
+    }
+
+    @Test
+    @DisplayName("the valid start offset covers the node's lag plus a margin, up to the default")
+    void validStartOffset() {
+        final ClockSkewEstimator estimator = new ClockSkewEstimator();
+
+        assertEquals(DEFAULT_OFFSET, estimator.getValidStartOffset(DEFAULT_OFFSET));
+
+        estimator.recordConsensusTime(NOW.minusSeconds(1), NOW);
+        assertEquals(ClockSkewEstimator.MARGIN.plusSeconds(1), estimator.getValidStartOffset(DEFAULT_OFFSET));
+
+        estimator.reset();
+        estimator.recordConsensusTime(NOW.plusSeconds(5), NOW);
+        assertEquals(ClockSkewEstimator.MARGIN, estimator.getValidStartOffset(DEFAULT_OFFSET));
+
+        estimator.reset();
+        estimator.recordConsensusTime(NOW.minusSeconds(60), NOW);
+        assertEquals(DEFAULT_OFFSET, estimator.getValidStartOffset(DEFAULT_OFFSET));
+    }
+
+    @Test
+    @DisplayName("the client only fits valid starts to nodes when enabled")
+    void clientValidStart() throws Exception {
+        final AccountId nodeId = new AccountId(3);
+        final AccountId payer = new AccountId(0, 0, 1_000_018);
+
+        try (Client client = new Client(Collections.singletonMap(nodeId, "127.0.0.1:50211"))) {
+            client.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+            client.getNodeForId(nodeId).clockSkew.recordConsensusTime(NOW.minusSeconds(1), NOW);
+
+            assertEquals(NOW.minus(DEFAULT_OFFSET), client.generateTransactionId(payer, nodeId).validStart);
+
+            client.setClockSkewEstimation(true);
+
+            assertEquals(NOW.minus(ClockSkewEstimator.MARGIN.plusSeconds(1)),
+                client.generateTransactionId(payer, nodeId).validStart);
+        }
+    }
+
+    @Test
+    @DisplayName("valid starts for a node with a known clock don't hold back those for other nodes")
+    void alternatingNodes() throws Exception {
+        final AccountId knownNode = new AccountId(3);
+        final AccountId defaultNode = new AccountId(4);
+        final AccountId payer = new AccountId(0, 0, 1_000_019);
+
+        final Map<AccountId, String> nodes = new HashMap<>();
+        nodes.put(knownNode, "127.0.0.1:50211");
+        nodes.put(defaultNode, "127.0.0.1:50212");
+
+        try (Client client = new Client(nodes)) {
+            client.setClock(Clock.fixed(NOW, ZoneOffset.UTC)).setClockSkewEstimation(true);
+            client.getNodeForId(knownNode).clockSkew.recordConsensusTime(NOW, NOW);
+
+            final Set<TransactionId> ids = new HashSet<>();
+
+            for (int i = 0; i < 10; i++) {
+                final TransactionId tight = client.generateTransactionId(payer, knownNode);
+                final TransactionId loose = client.generateTransactionId(payer, defaultNode);
+
+                assertEquals(NOW.minus(ClockSkewEstimator.MARGIN).plusNanos(i), tight.validStart);
+                assertEquals(NOW.minus(DEFAULT_OFFSET).plusNanos(i), loose.validStart);
+
+                ids.add(tight);
+                ids.add(loose);
+            }
+
+            assertEquals(20, ids.size());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import io.grpc.StatusRuntimeException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultRetryPolicyTest {
+    private static final TransactionId TRANSACTION_ID =
+        TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1_554_158_542));
+
+    private static final HederaThrowable BUSY = precheck(ResponseCodeEnum.BUSY);
+
+    private static final HederaThrowable RECEIPT_NOT_FOUND = precheck(ResponseCodeEnum.RECEIPT_NOT_FOUND);
+
+    private static final HederaThrowable UNAVAILABLE = new HederaNetworkException(
+        new StatusRuntimeException(io.grpc.Status.UNAVAILABLE));
+
+    private static HederaThrowable precheck(ResponseCodeEnum code) {
+        return new HederaPrecheckStatusException(code, TRANSACTION_ID);
+    }
+
+    @Test
+    @DisplayName("delays stay between the base and three times the previous delay")
+    void decorrelatedJitter() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy()
+            .setBaseDelay(Duration.ofMillis(100))
+            .setMaxDelay(Duration.ofSeconds(1))
+            .setRetryBudget(null);
+
+        Duration previous = Duration.ZERO;
+
+        for (int attempt = 1; attempt < 50; attempt++) {
+            final Duration delay = policy.getRetryDelay(attempt, previous, BUSY, true);
+
+            assertNotNull(delay);
+            assertTrue(delay.compareTo(Duration.ofMillis(100)) >= 0);
+            assertTrue(delay.compareTo(Duration.ofSeconds(1)) <= 0);
+
+            final Duration upper = (previous.isZero() ? Duration.ofMillis(100) : previous).multipliedBy(3);
+            assertTrue(delay.compareTo(upper) <= 0);
+
+            previous = delay;
+        }
+    }
+
+    @Test
+    @DisplayName("per-status rules override whether the call considers an error retryable")
+    void statusRules() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy()
+            .setRetryable(Status.Busy, false)
+            .setRetryable(Status.InvalidTransactionStart, true)
+            .setRetryable(io.grpc.Status.Code.UNAVAILABLE, false);
+
+        assertNull(policy.getRetryDelay(1, Duration.ZERO, BUSY, true));
+        assertNull(policy.getRetryDelay(1, Duration.ZERO, UNAVAILABLE, true));
+
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, precheck(ResponseCodeEnum.INVALID_TRANSACTION_START), false));
+
+        // no rule, so the call decides
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, RECEIPT_NOT_FOUND, true));
+        assertNull(policy.getRetryDelay(1, Duration.ZERO, RECEIPT_NOT_FOUND, false));
+    }
+
+    @Test
+    @DisplayName("no more attempts than the maximum are made")
+    void maxAttempts() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy().setMaxAttempts(3);
+
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, BUSY, true));
+        assertNotNull(policy.getRetryDelay(2, Duration.ZERO, BUSY, true));
+        assertNull(policy.getRetryDelay(3, Duration.ZERO, BUSY, true));
+    }
+
+    @Test
+    @DisplayName("overload retries are drawn from the budget and successes refill it")
+    void retryBudget() {
+        final RetryBudget budget = new RetryBudget(2, 0.5);
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy().setRetryBudget(budget);
+
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, BUSY, true));
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, UNAVAILABLE, true));
+        assertNull(policy.getRetryDelay(1, Duration.ZERO, BUSY, true));
+
+        // polling for a receipt isn't an overload and doesn't need the budget
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, RECEIPT_NOT_FOUND, true));
+
+        policy.onSuccess();
+        assertNull(policy.getRetryDelay(1, Duration.ZERO, BUSY, true));
+
+        policy.onSuccess();
+        assertNotNull(policy.getRetryDelay(1, Duration.ZERO, BUSY, true));
+        assertEquals(0, budget.getTokens());
+    }
+
+    @Test
+    @DisplayName("the budget never holds more than its maximum")
+    void retryBudgetCapped() {
+        final RetryBudget budget = new RetryBudget(1, 1);
+
+        budget.deposit();
+        assertEquals(1, budget.getTokens());
+
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+}
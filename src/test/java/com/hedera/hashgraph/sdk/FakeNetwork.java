@@ -0,0 +1,75 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+
+/**
+ * Nodes served by local gRPC servers, for tests that need a network answering in a particular
+ * way; close it once the test is done to stop the servers.
+ */
+public final class FakeNetwork implements AutoCloseable {
+    public static final AccountId OPERATOR_ID = new AccountId(2);
+
+    public static final Ed25519PrivateKey OPERATOR_KEY = Ed25519PrivateKey.fromString(
+        "302e020100300506032b6570042204203b054fade7a2b0869c6bd4a63b7017cbae7855d12acc357bea718e2c3e805962");
+
+    // the node of a client from `startClient()`
+    public static final AccountId NODE_ID = new AccountId(3);
+
+    private final List<Server> servers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Start a node serving {@code services}.
+     *
+     * @return the address of the node.
+     */
+    public String startNode(BindableService... services) throws IOException {
+        final ServerBuilder<?> builder = ServerBuilder.forPort(0);
+
+        for (BindableService service : services) {
+            builder.addService(service);
+        }
+
+        final Server server = builder.build().start();
+        servers.add(server);
+
+        return "127.0.0.1:" + server.getPort();
+    }
+
+    /**
+     * Start a node serving {@code services}, as {@link #NODE_ID}, and return a client for it
+     * with {@link #OPERATOR_ID} as its operator.
+     */
+    public Client startClient(BindableService... services) throws IOException {
+        return new Client(Collections.singletonMap(NODE_ID, startNode(services)))
+            .setOperator(OPERATOR_ID, OPERATOR_KEY);
+    }
+
+    /**
+     * @return a transfer of 1 tinybar from {@link #OPERATOR_ID} to account 5.
+     */
+    public static CryptoTransferTransaction newTransfer() {
+        return new CryptoTransferTransaction()
+            .addSender(OPERATOR_ID, 1)
+            .addRecipient(new AccountId(5), 1);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (Server server : servers) {
+            server.shutdownNow().awaitTermination();
+        }
+
+        servers.clear();
+    }
+}
@@ -0,0 +1,315 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoGetInfoResponse;
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.AccountInfoQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HederaCallTest {
+    private static final TransactionId TRANSACTION_ID =
+        TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1_554_158_542));
+
+    private final FakeNetwork network = new FakeNetwork();
+
+    private static Response successReceipt() {
+        return Response.newBuilder()
+            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                    .setStatus(ResponseCodeEnum.SUCCESS)))
+            .build();
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("executeFuture() completes with the response")
+    void executeFuture() throws Exception {
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                responseObserver.onNext(successReceipt());
+                responseObserver.onCompleted();
+            }
+        })) {
+            final TransactionReceipt receipt = new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .executeFuture(client)
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(Status.Success, receipt.status);
+        }
+    }
+
+    @Test
+    @DisplayName("callbacks run on the callback executor")
+    void callbackExecutor() throws Exception {
+        final ExecutorService executor = CallbackExecutors.boundedPool(1, 1);
+
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                responseObserver.onNext(successReceipt());
+                responseObserver.onCompleted();
+            }
+        })) {
+            final CompletableFuture<String> callbackThread = new CompletableFuture<>();
+
+            new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .setCallbackExecutor(executor)
+                .executeAsync(client,
+                    receipt -> callbackThread.complete(Thread.currentThread().getName()),
+                    e -> callbackThread.completeExceptionally((Throwable) e));
+
+            assertTrue(callbackThread.get(10, TimeUnit.SECONDS).startsWith("hedera-callback-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("async retries run on the client's scheduler")
+    void retryOnClientScheduler() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger scheduled = new AtomicInteger();
+
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                scheduled.incrementAndGet();
+                return super.schedule(command, delay, unit);
+            }
+        };
+
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                if (calls.getAndIncrement() == 0) {
+                    responseObserver.onError(io.grpc.Status.UNAVAILABLE.asRuntimeException());
+                    return;
+                }
+
+                responseObserver.onNext(successReceipt());
+                responseObserver.onCompleted();
+            }
+        })) {
+            client.setScheduler(scheduler);
+
+            final TransactionReceipt receipt = new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .executeFuture(client)
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(Status.Success, receipt.status);
+            assertEquals(2, calls.get());
+            assertEquals(1, scheduled.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("a call's retry policy overrides the client's")
+    void retryPolicy() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                calls.incrementAndGet();
+                responseObserver.onError(io.grpc.Status.UNAVAILABLE.asRuntimeException());
+            }
+        })) {
+            client.setRetryPolicy(new DefaultRetryPolicy().setMaxAttempts(5));
+
+            assertThrows(HederaNetworkException.class, () -> new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .setRetryPolicy(new DefaultRetryPolicy().setMaxAttempts(2))
+                .execute(client, Duration.ofSeconds(30)));
+
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("an attempt that misses its deadline is retried")
+    void attemptTimeout() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                // the first call hangs
+                if (calls.getAndIncrement() > 0) {
+                    responseObserver.onNext(successReceipt());
+                    responseObserver.onCompleted();
+                }
+            }
+        })) {
+            client.setAttemptTimeout(Duration.ofMillis(200));
+
+            final TransactionReceipt receipt = new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .execute(client, Duration.ofSeconds(30));
+
+            assertEquals(Status.Success, receipt.status);
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("an attempt is not given longer than the overall timeout")
+    void overallTimeout() throws Exception {
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                // never answer
+            }
+        })) {
+            final long startNanos = System.nanoTime();
+
+            assertThrows(HederaNetworkException.class, () -> new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .setAttemptTimeout(Duration.ofMinutes(1))
+                .execute(client, Duration.ofMillis(500)));
+
+            assertTrue(System.nanoTime() - startNanos < Duration.ofSeconds(10).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("cancelling the future cancels the call")
+    void cancelFuture() throws Exception {
+        final CountDownLatch received = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+
+        try (Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                // never answer
+                ((ServerCallStreamObserver<Response>) responseObserver).setOnCancelHandler(cancelled::countDown);
+                received.countDown();
+            }
+        })) {
+            final CompletableFuture<TransactionReceipt> future = new TransactionReceiptQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .executeFuture(client);
+
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            assertTrue(future.cancel(false));
+            assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("a precheck failure on a hedge reports the payment the hedge was sent with")
+    void hedgePaymentId() throws Exception {
+        final List<TransactionId> payments = new CopyOnWriteArrayList<>();
+        final List<StreamObserver<Response>> held = new CopyOnWriteArrayList<>();
+
+        final String address = network.startNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getAccountInfo(Query request, StreamObserver<Response> responseObserver) {
+                try {
+                    payments.add(new TransactionId(TransactionBody.parseFrom(
+                        request.getCryptoGetInfo().getHeader().getPayment().getBodyBytes()).getTransactionID()));
+                } catch (IOException e) {
+                    responseObserver.onError(e);
+                    return;
+                }
+
+                // never answer the first, so the hedge is sent and answers first
+                if (payments.size() == 1) {
+                    held.add(responseObserver);
+                    return;
+                }
+
+                responseObserver.onNext(Response.newBuilder()
+                    .setCryptoGetInfo(CryptoGetInfoResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder()
+                            .setNodeTransactionPrecheckCode(ResponseCodeEnum.INSUFFICIENT_TX_FEE)))
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+
+        final Map<AccountId, String> nodes = new HashMap<>();
+        nodes.put(new AccountId(3), address);
+        nodes.put(new AccountId(4), address);
+
+        try (Client client = new Client(nodes).setOperator(FakeNetwork.OPERATOR_ID, FakeNetwork.OPERATOR_KEY)) {
+            final HederaPrecheckStatusException e = assertThrows(HederaPrecheckStatusException.class,
+                () -> new AccountInfoQuery()
+                    .setAccountId(new AccountId(5))
+                    .setQueryPayment(25)
+                    .setHedgeDelay(Duration.ofMillis(50))
+                    .setHedgePaidQuery(true)
+                    .execute(client, Duration.ofSeconds(10)));
+
+            assertEquals(Status.InsufficientTxFee, e.status);
+            assertEquals(2, payments.size());
+            assertNotEquals(payments.get(0), payments.get(1));
+            assertEquals(payments.get(1), e.transactionId);
+        }
+    }
+
+    @Test
+    @DisplayName("an attempt that fails to start gives back its admission permit")
+    void attemptFailsToStart() throws Exception {
+        // no channel can be opened to this address, so every attempt throws as it starts
+        try (Client client = new Client(Collections.singletonMap(new AccountId(3), "not a host:50211"))
+            .setAdmissionControl(new AdmissionControl().setInitialLimit(1)))
+        {
+            final AimdLimiter limiter = client.getNodeForId(new AccountId(3)).getLimiter();
+
+            for (int i = 0; i < 3; i++) {
+                assertThrows(IllegalArgumentException.class, () ->
+                    new TransactionReceiptQuery().setTransactionId(TRANSACTION_ID).execute(client));
+
+                assertThrows(IllegalArgumentException.class, () ->
+                    new TransactionReceiptQuery().setTransactionId(TRANSACTION_ID).executeFuture(client));
+            }
+
+            assertEquals(0, Objects.requireNonNull(limiter).getInFlight());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InFlightLimiterTest {
+    @Test
+    @DisplayName("FAIL mode rejects requests over the limit")
+    void failMode() throws InterruptedException {
+        final InFlightLimiter limiter = new InFlightLimiter(1, InFlightLimit.Mode.FAIL, 10);
+
+        final InFlightLimiter.Permit permit = limiter.acquire();
+
+        assertThrows(InFlightLimitExceededException.class, limiter::acquire);
+
+        final List<HederaThrowable> rejections = new ArrayList<>();
+        assertNull(limiter.acquire(p -> { }, rejections::add, true));
+        assertEquals(1, rejections.size());
+
+        permit.release();
+        // releasing twice has no effect
+        permit.release();
+
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+        assertEquals(2, limiter.getStats().rejected);
+    }
+
+    @Test
+    @DisplayName("QUEUE mode queues up to the limit and admits in order")
+    void queueMode() throws InterruptedException {
+        final InFlightLimiter limiter = new InFlightLimiter(1, InFlightLimit.Mode.QUEUE, 2);
+        final List<Integer> admitted = new ArrayList<>();
+        final List<HederaThrowable> rejections = new ArrayList<>();
+
+        final InFlightLimiter.Permit first = limiter.acquire(p -> { }, rejections::add, true);
+        assertNotNull(first);
+
+        final List<InFlightLimiter.Permit> later = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            final int n = i;
+            assertNull(limiter.acquire(p -> {
+                admitted.add(n);
+                later.add(p);
+            }, rejections::add, true));
+        }
+
+        assertEquals(1, rejections.size());
+        assertEquals(2, limiter.getStats().queued);
+        assertEquals(2, limiter.getStats().peakQueued);
+
+        first.release();
+        assertEquals(1, admitted.size());
+        assertEquals(0, (int) admitted.get(0));
+
+        later.get(0).release();
+        assertEquals(2, admitted.size());
+        assertEquals(1, (int) admitted.get(1));
+
+        later.get(1).release();
+        assertEquals(0, limiter.getStats().inFlight);
+        assertEquals(0, limiter.getStats().queued);
+    }
+
+    @Test
+    @DisplayName("BLOCK mode waits for a permit")
+    void blockMode() throws InterruptedException {
+        final InFlightLimiter limiter = new InFlightLimiter(1, InFlightLimit.Mode.BLOCK, 0);
+        final InFlightLimiter.Permit permit = limiter.acquire();
+
+        final Thread releaser = new Thread(() -> {
+            while (limiter.getStats().queued == 0) {
+                Thread.yield();
+            }
+
+            permit.release();
+        });
+
+        releaser.start();
+
+        assertNotNull(limiter.acquire());
+        releaser.join();
+
+        assertTrue(limiter.getStats().peakQueued >= 1);
+        assertEquals(1, limiter.getStats().inFlight);
+    }
+
+    @Test
+    @DisplayName("BLOCK mode does not lose a permit when a waiter is interrupted as it is admitted")
+    void blockModeInterrupted() throws InterruptedException {
+        final InFlightLimiter limiter = new InFlightLimiter(1, InFlightLimit.Mode.BLOCK, 0);
+
+        for (int i = 0; i < 1000; i++) {
+            final InFlightLimiter.Permit permit = limiter.acquire();
+
+            final Thread waiter = new Thread(() -> {
+                try {
+                    limiter.acquire().release();
+                } catch (InterruptedException e) {
+                    // expected sometimes
+                }
+            });
+
+            waiter.start();
+
+            while (limiter.getStats().queued == 0) {
+                Thread.yield();
+            }
+
+            final Thread releaser = new Thread(permit::release);
+            releaser.start();
+            waiter.interrupt();
+
+            releaser.join();
+            waiter.join();
+
+            assertEquals(0, limiter.getStats().inFlight);
+            final InFlightLimiter.Permit next = limiter.tryAcquire();
+            assertNotNull(next);
+            next.release();
+        }
+    }
+}
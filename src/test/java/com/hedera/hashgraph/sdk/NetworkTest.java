@@ -0,0 +1,113 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class NetworkTest {
+    private static final AccountId NODE = new AccountId(3);
+
+    private static final AccountId OPERATOR_A = new AccountId(1001);
+    private static final AccountId OPERATOR_B = new AccountId(1002);
+
+    private final List<com.hedera.hashgraph.proto.Transaction> received = new CopyOnWriteArrayList<>();
+
+    private final FakeNetwork fakeNetwork = new FakeNetwork();
+
+    private Network network;
+
+    @BeforeEach
+    void startNode() throws IOException {
+        final String address = fakeNetwork.startNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoTransfer(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+                received.add(request);
+
+                responseObserver.onNext(TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+
+        network = new Network(Collections.singletonMap(NODE, address));
+    }
+
+    @AfterEach
+    void stopNode() throws Exception {
+        network.close();
+        fakeNetwork.close();
+    }
+
+    private static CryptoTransferTransaction newTransfer() {
+        return FakeNetwork.newTransfer().setNodeAccountId(NODE);
+    }
+
+    private AccountId payerOf(int index) throws Exception {
+        return new AccountId(TransactionBody.parseFrom(received.get(index).getBodyBytes())
+            .getTransactionID()
+            .getAccountID());
+    }
+
+    @Test
+    @DisplayName("clients on a shared network share its nodes but pay with their own operators")
+    void clientsShareNodes() throws Exception {
+        final Client clientA = new Client(network).setOperator(OPERATOR_A, Ed25519PrivateKey.generate());
+        final Client clientB = new Client(network).setOperator(OPERATOR_B, Ed25519PrivateKey.generate());
+
+        assertSame(clientA.getNodeForId(NODE), clientB.getNodeForId(NODE));
+        assertSame(network, clientA.getNetwork());
+
+        newTransfer().execute(clientA, Duration.ofSeconds(10));
+        newTransfer().execute(clientB, Duration.ofSeconds(10));
+
+        assertEquals(OPERATOR_A, payerOf(0));
+        assertEquals(OPERATOR_B, payerOf(1));
+    }
+
+    @Test
+    @DisplayName("closing a client on a shared network leaves the network open")
+    void closingClientKeepsNetwork() throws Exception {
+        final Client clientA = new Client(network).setOperator(OPERATOR_A, Ed25519PrivateKey.generate());
+        final Client clientB = new Client(network).setOperator(OPERATOR_B, Ed25519PrivateKey.generate());
+
+        newTransfer().execute(clientA, Duration.ofSeconds(10));
+        clientA.close();
+
+        newTransfer().execute(clientB, Duration.ofSeconds(10));
+
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    @DisplayName("node settings made through a client apply to the shared network")
+    void settingsApplyToNetwork() {
+        final Client clientA = new Client(network);
+        final Client clientB = new Client(network);
+
+        clientA.setChannelPoolSize(4);
+
+        assertEquals(4, clientB.getChannelPoolSize());
+        assertEquals(4, network.getChannelPoolSize());
+    }
+}
@@ -0,0 +1,64 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NodeHealthTest {
+    @Test
+    @DisplayName("latency percentile needs enough samples")
+    void percentileNeedsSamples() {
+        final NodeHealth health = new NodeHealth();
+
+        assertNull(health.getLatencyPercentile(95, 1));
+
+        for (int i = 0; i < 10; i++) {
+            health.endCall(health.beginCall(), true);
+        }
+
+        assertNull(health.getLatencyPercentile(95, 20));
+        assertNotNull(health.getLatencyPercentile(95, 10));
+    }
+
+    @Test
+    @DisplayName("latency percentile picks from the sorted samples")
+    void percentileOrdering() {
+        final NodeHealth health = new NodeHealth();
+        final long now = System.nanoTime();
+
+        // calls that "started" 1 to 100 ms ago
+        for (int ms = 100; ms >= 1; ms--) {
+            health.endCall(now - Duration.ofMillis(ms).toNanos(), true);
+        }
+
+        // only the last 64 samples (1 to 64 ms) are kept
+        final Duration p50 = health.getLatencyPercentile(50, 1);
+        final Duration p100 = health.getLatencyPercentile(100, 1);
+
+        assertNotNull(p50);
+        assertNotNull(p100);
+        assertTrue(p50.compareTo(p100) < 0);
+        assertTrue(p100.compareTo(Duration.ofMillis(100)) < 0);
+    }
+
+    @Test
+    @DisplayName("cancelled calls only release the in-flight slot")
+    void cancelCall() {
+        final NodeHealth health = new NodeHealth();
+
+        health.beginCall();
+        assertEquals(1, health.getInFlight());
+
+        health.cancelCall();
+
+        assertEquals(0, health.getInFlight());
+        assertEquals(0, health.getErrorRate());
+        assertNull(health.getLatencyPercentile(50, 1));
+    }
+}
@@ -0,0 +1,53 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NodeSelectorTest {
+    private final NodeSelector selector = new NodeSelector();
+
+    @Test
+    @DisplayName("failing node is never picked over a healthy node")
+    void avoidsFailingNode() {
+        final Node healthy = new Node(new AccountId(3), "0.testnet.hedera.com:50211", 1, new ChannelOptions());
+        final Node failing = new Node(new AccountId(4), "1.testnet.hedera.com:50211", 1, new ChannelOptions());
+
+        for (int i = 0; i < 10; i++) {
+            healthy.health.endCall(healthy.health.beginCall(), true);
+            failing.health.endCall(failing.health.beginCall(), false);
+        }
+
+        // with two nodes both are always drawn, so the better score must win every time
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, selector.select(Arrays.asList(healthy, failing)));
+        }
+    }
+
+    @Test
+    @DisplayName("in-flight calls count against a node")
+    void prefersLessLoadedNode() {
+        final Node idle = new Node(new AccountId(3), "0.testnet.hedera.com:50211", 1, new ChannelOptions());
+        final Node busy = new Node(new AccountId(4), "1.testnet.hedera.com:50211", 1, new ChannelOptions());
+
+        busy.health.beginCall();
+        busy.health.beginCall();
+
+        assertEquals(2, busy.health.getInFlight());
+        assertSame(idle, selector.select(Arrays.asList(busy, idle)));
+    }
+
+    @Test
+    @DisplayName("empty node list throws")
+    void emptyThrows() {
+        assertThrows(IllegalStateException.class, () -> selector.select(Collections.emptyList()));
+    }
+}
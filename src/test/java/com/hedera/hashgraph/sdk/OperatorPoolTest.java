@@ -0,0 +1,90 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OperatorPoolTest {
+    private static final Ed25519PrivateKey KEY = Ed25519PrivateKey.fromString(
+        "302e020100300506032b6570042204203b054fade7a2b0869c6bd4a63b7017cbae7855d12acc357bea718e2c3e805962");
+
+    @Test
+    @DisplayName("operators take turns")
+    void roundRobin() {
+        final OperatorPool pool = new OperatorPool()
+            .add(new AccountId(1001), KEY)
+            .add(new AccountId(1002), KEY)
+            .add(new AccountId(1003), KEY);
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals(new AccountId(1001 + i % 3), pool.next().accountId);
+        }
+    }
+
+    @Test
+    @DisplayName("an empty pool has no next operator and an account can only be added once")
+    void emptyAndDuplicate() {
+        final OperatorPool pool = new OperatorPool();
+
+        assertNull(pool.next());
+
+        pool.add(new AccountId(1001), KEY);
+
+        assertThrows(IllegalArgumentException.class, () -> pool.add(new AccountId(1001), KEY));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    @DisplayName("transactions built with the client are paid for by each pooled operator in turn")
+    void clientPayers() throws Exception {
+        try (Client client = new Client(Collections.singletonMap(new AccountId(3), "127.0.0.1:50211"))) {
+            client.setOperator(new AccountId(2), KEY);
+            client.setOperatorPool(new OperatorPool()
+                .add(new AccountId(1001), KEY)
+                .add(new AccountId(1002), KEY));
+
+            for (int i = 0; i < 4; i++) {
+                final Transaction transaction = new CryptoTransferTransaction()
+                    .addSender(new AccountId(5), 1)
+                    .addRecipient(new AccountId(6), 1)
+                    .build(client);
+
+                assertEquals(new AccountId(1001 + i % 2), transaction.id.accountId);
+            }
+
+            // both the pooled and single operators can sign for their transactions
+            assertNotNull(client.getOperatorFor(new AccountId(1002)));
+            assertNotNull(client.getOperatorFor(new AccountId(2)));
+            assertNull(client.getOperatorFor(new AccountId(5)));
+
+            client.setOperatorPool(null);
+            assertEquals(new AccountId(2), client.nextOperator().accountId);
+        }
+    }
+
+    @Test
+    @DisplayName("the address book refresh can be paid for by an operator pool alone")
+    void addressBookRefreshWithPool() throws Exception {
+        try (Client client = new Client(Collections.singletonMap(new AccountId(3), "127.0.0.1:50211"))) {
+            assertThrows(IllegalStateException.class, () -> client.startAddressBookRefresh(Duration.ofMinutes(1)));
+
+            client.setOperatorPool(new OperatorPool());
+            assertThrows(IllegalStateException.class, () -> client.startAddressBookRefresh(Duration.ofMinutes(1)));
+
+            client.setOperatorPool(new OperatorPool().add(new AccountId(1001), KEY));
+            client.startAddressBookRefresh(Duration.ofMinutes(1));
+            client.stopAddressBookRefresh();
+        }
+    }
+}
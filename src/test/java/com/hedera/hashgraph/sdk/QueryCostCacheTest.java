@@ -0,0 +1,141 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.AccountAmount;
+import com.hedera.hashgraph.proto.CryptoGetInfoResponse;
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.ResponseType;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.AccountInfo;
+import com.hedera.hashgraph.sdk.account.AccountInfoQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryCostCacheTest {
+    private final FakeNetwork network = new FakeNetwork();
+
+    private final AtomicInteger costQueries = new AtomicInteger();
+
+    private final AtomicInteger rejectedPayments = new AtomicInteger();
+
+    private final AtomicLong cost = new AtomicLong(30);
+
+    private Client startClient() throws IOException {
+        return network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getAccountInfo(Query request, StreamObserver<Response> responseObserver) {
+                final CryptoGetInfoResponse.Builder response = CryptoGetInfoResponse.newBuilder();
+
+                if (request.getCryptoGetInfo().getHeader().getResponseType() == ResponseType.COST_ANSWER) {
+                    costQueries.incrementAndGet();
+                    response.setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                        .setCost(cost.get()));
+                } else if (paid(request) < cost.get()) {
+                    rejectedPayments.incrementAndGet();
+                    response.setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.INSUFFICIENT_TX_FEE));
+                } else {
+                    response.setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setAccountInfo(CryptoGetInfoResponse.AccountInfo.newBuilder()
+                            .setAccountID(request.getCryptoGetInfo().getAccountID())
+                            .setKey(FakeNetwork.OPERATOR_KEY.publicKey.toKeyProto()));
+                }
+
+                responseObserver.onNext(Response.newBuilder().setCryptoGetInfo(response).build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    // the amount paid to the node by the query's payment
+    private static long paid(Query request) {
+        try {
+            final TransactionBody body = TransactionBody.parseFrom(
+                request.getCryptoGetInfo().getHeader().getPayment().getBodyBytes());
+
+            for (AccountAmount transfer : body.getCryptoTransfer().getTransfers().getAccountAmountsList()) {
+                if (transfer.getAmount() > 0) {
+                    return transfer.getAmount();
+                }
+            }
+
+            return 0;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("the cost of a repeated query is only asked for once")
+    void repeatedQuery() throws Exception {
+        try (Client client = startClient().setQueryCostCacheTtl(Duration.ofMinutes(1))) {
+            for (int i = 0; i < 3; i++) {
+                final AccountInfo info = new AccountInfoQuery().setAccountId(new AccountId(5)).execute(client);
+                assertEquals(new AccountId(5), info.accountId);
+            }
+
+            new AccountInfoQuery().setAccountId(new AccountId(5)).executeFuture(client).get(10, TimeUnit.SECONDS);
+
+            assertEquals(1, costQueries.get());
+
+            // a different account is a different query
+            new AccountInfoQuery().setAccountId(new AccountId(6)).execute(client);
+
+            assertEquals(2, costQueries.get());
+        }
+    }
+
+    @Test
+    @DisplayName("every query asks for its cost when costs are not cached")
+    void notCachedByDefault() throws Exception {
+        try (Client client = startClient()) {
+            new AccountInfoQuery().setAccountId(new AccountId(5)).execute(client);
+            new AccountInfoQuery().setAccountId(new AccountId(5)).execute(client);
+
+            assertEquals(2, costQueries.get());
+        }
+    }
+
+    @Test
+    @DisplayName("a cached cost rejected with INSUFFICIENT_TX_FEE is asked for again")
+    void insufficientFee() throws Exception {
+        try (Client client = startClient().setQueryCostCacheTtl(Duration.ofMinutes(1))) {
+            new AccountInfoQuery().setAccountId(new AccountId(5)).execute(client);
+
+            cost.set(40);
+            new AccountInfoQuery().setAccountId(new AccountId(5)).execute(client);
+
+            assertEquals(1, rejectedPayments.get());
+            assertEquals(2, costQueries.get());
+
+            cost.set(50);
+            new AccountInfoQuery().setAccountId(new AccountId(5)).executeFuture(client).get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, rejectedPayments.get());
+            assertEquals(3, costQueries.get());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReceiptPollerTest {
+    private final FakeNetwork network = new FakeNetwork();
+
+    private final AtomicInteger polls = new AtomicInteger();
+
+    /**
+     * @param consensusDelay how long after the server starts receipts become available.
+     * @param status         the status of every receipt once available.
+     */
+    private Client startClient(Duration consensusDelay, ResponseCodeEnum status) throws IOException {
+        final long availableAtNanos = System.nanoTime() + consensusDelay.toNanos();
+
+        return network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                polls.incrementAndGet();
+
+                final ResponseCodeEnum receiptStatus = System.nanoTime() - availableAtNanos >= 0
+                    ? status : ResponseCodeEnum.UNKNOWN;
+
+                responseObserver.onNext(Response.newBuilder()
+                    .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                            .setStatus(receiptStatus)))
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    private static TransactionId transactionId(int i) {
+        return TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1_554_158_542, i));
+    }
+
+    @Test
+    @DisplayName("receipts not yet available are polled for again until they are")
+    void pollsUntilAvailable() throws Exception {
+        try (Client client = startClient(Duration.ofMillis(300), ResponseCodeEnum.SUCCESS);
+             ReceiptPoller poller = new ReceiptPoller(client)
+                 .setExpectedLatency(Duration.ZERO)
+                 .setPollInterval(Duration.ofMillis(50), Duration.ofMillis(50)))
+        {
+            final List<CompletableFuture<TransactionReceipt>> receipts = new ArrayList<>();
+
+            for (int i = 0; i < 20; i++) {
+                receipts.add(poller.getReceipt(transactionId(i)));
+            }
+
+            for (CompletableFuture<TransactionReceipt> receipt : receipts) {
+                assertEquals(Status.Success, receipt.get(10, TimeUnit.SECONDS).status);
+            }
+
+            assertEquals(0, poller.getPending());
+            assertTrue(poller.getLatencyEstimate().compareTo(Duration.ofMillis(50)) > 0);
+
+            // roughly one poll per transaction per interval until available
+            assertTrue(polls.get() < 20 * 12, "too many polls: " + polls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("the first poll waits for the expected consensus latency")
+    void firstPollAfterExpectedLatency() throws Exception {
+        try (Client client = startClient(Duration.ZERO, ResponseCodeEnum.SUCCESS);
+             ReceiptPoller poller = new ReceiptPoller(client)
+                 .setExpectedLatency(Duration.ofMillis(500))
+                 .setPollInterval(Duration.ofMillis(50), Duration.ofMillis(50)))
+        {
+            final long startNanos = System.nanoTime();
+
+            final CompletableFuture<TransactionReceipt> first = poller.getReceipt(transactionId(0));
+            final CompletableFuture<TransactionReceipt> again = poller.getReceipt(transactionId(0));
+
+            first.get(10, TimeUnit.SECONDS);
+            again.get(10, TimeUnit.SECONDS);
+
+            assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(400));
+
+            // the same transaction ID is only polled for once
+            assertEquals(1, polls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("a receipt with a failing status fails its future without polling again")
+    void failingReceipt() throws Exception {
+        try (Client client = startClient(Duration.ZERO, ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE);
+             ReceiptPoller poller = new ReceiptPoller(client).setExpectedLatency(Duration.ZERO))
+        {
+            final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> poller.getReceipt(transactionId(0)).get(10, TimeUnit.SECONDS));
+
+            assertEquals(Status.InsufficientPayerBalance, ((HederaReceiptStatusException) e.getCause()).receipt.status);
+            assertEquals(1, polls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("closing the poller fails receipts not yet found")
+    void closeFailsPending() throws Exception {
+        try (Client client = startClient(Duration.ofMinutes(1), ResponseCodeEnum.SUCCESS)) {
+            final ReceiptPoller poller = new ReceiptPoller(client).setExpectedLatency(Duration.ZERO);
+            final CompletableFuture<TransactionReceipt> receipt = poller.getReceipt(transactionId(0));
+
+            poller.close();
+
+            final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> receipt.get(10, TimeUnit.SECONDS));
+
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    @DisplayName("a poll that fails to start fails its future rather than stranding the rest")
+    void pollFailsToStart() throws Exception {
+        // no channel can be opened to this address, so every poll throws as it starts
+        try (Client client = new Client(Collections.singletonMap(new AccountId(3), "not a host:50211"));
+             ReceiptPoller poller = new ReceiptPoller(client).setExpectedLatency(Duration.ZERO))
+        {
+            final List<CompletableFuture<TransactionReceipt>> receipts = new ArrayList<>();
+
+            for (int i = 0; i < 3; i++) {
+                receipts.add(poller.getReceipt(transactionId(i)));
+            }
+
+            for (CompletableFuture<TransactionReceipt> receipt : receipts) {
+                final ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> receipt.get(10, TimeUnit.SECONDS));
+
+                assertTrue(e.getCause() instanceof IllegalArgumentException, e.getCause().toString());
+            }
+
+            assertEquals(0, poller.getPending());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoGetAccountRecordsResponse;
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.ResponseType;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordHarvesterTest {
+    private static final Instant VALID_START = Instant.ofEpochSecond(1_554_158_542);
+
+    private static final TransactionId FIRST = TransactionId.withValidStart(new AccountId(2), VALID_START);
+
+    private static final TransactionId SECOND = TransactionId.withValidStart(new AccountId(2), VALID_START.plusSeconds(1));
+
+    private static final TransactionId FAILED = TransactionId.withValidStart(new AccountId(7), VALID_START);
+
+    private static final TransactionId MISSING = TransactionId.withValidStart(new AccountId(8), VALID_START);
+
+    private final FakeNetwork network = new FakeNetwork();
+
+    // the number of records answers (not cost answers) per payer account number
+    private final Map<Long, AtomicInteger> answered = new ConcurrentHashMap<>();
+
+    private static com.hedera.hashgraph.proto.TransactionRecord record(TransactionId id, ResponseCodeEnum status) {
+        return com.hedera.hashgraph.proto.TransactionRecord.newBuilder()
+            .setTransactionID(id.toProto())
+            .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder().setStatus(status))
+            .build();
+    }
+
+    private Client startClient() throws IOException {
+        return network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getAccountRecords(Query request, StreamObserver<Response> responseObserver) {
+                final CryptoGetAccountRecordsResponse.Builder response = CryptoGetAccountRecordsResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                        .setCost(10));
+
+                if (request.getCryptoGetAccountRecords().getHeader().getResponseType() != ResponseType.COST_ANSWER) {
+                    final long payer = request.getCryptoGetAccountRecords().getAccountID().getAccountNum();
+                    answered.computeIfAbsent(payer, p -> new AtomicInteger()).incrementAndGet();
+
+                    if (payer == 2) {
+                        response.addRecords(record(FIRST, ResponseCodeEnum.SUCCESS))
+                            .addRecords(record(SECOND, ResponseCodeEnum.SUCCESS))
+                            // not asked for
+                            .addRecords(record(TransactionId.withValidStart(new AccountId(2), VALID_START.plusSeconds(2)),
+                                ResponseCodeEnum.SUCCESS));
+                    } else if (payer == 7) {
+                        response.addRecords(record(FAILED, ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE));
+                    }
+                }
+
+                responseObserver.onNext(Response.newBuilder().setCryptoGetAccountRecords(response).build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("records are fetched with one query per payer and matched by transaction ID")
+    void onePerPayer() throws Exception {
+        try (Client client = startClient();
+             RecordHarvester harvester = new RecordHarvester(client).setPeriod(Duration.ofMillis(10))) {
+            final CompletableFuture<TransactionRecord> first = harvester.getRecord(FIRST);
+            final CompletableFuture<TransactionRecord> second = harvester.getRecord(SECOND);
+            final CompletableFuture<TransactionRecord> again = harvester.getRecord(FIRST);
+            final CompletableFuture<TransactionRecord> failed = harvester.getRecord(FAILED);
+
+            assertEquals(3, harvester.getPending());
+
+            assertEquals(FIRST, first.get(10, TimeUnit.SECONDS).transactionId);
+            assertEquals(SECOND, second.get(10, TimeUnit.SECONDS).transactionId);
+            assertEquals(FIRST, again.get(10, TimeUnit.SECONDS).transactionId);
+
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+            assertEquals(Status.InsufficientPayerBalance, ((HederaRecordStatusException) e.getCause()).status);
+
+            assertEquals(1, answered.get(2L).get());
+            assertEquals(1, answered.get(7L).get());
+            assertEquals(0, harvester.getPending());
+        }
+    }
+
+    @Test
+    @DisplayName("a record that never appears fails once the timeout passes")
+    void timeout() throws Exception {
+        try (Client client = startClient();
+             RecordHarvester harvester = new RecordHarvester(client)
+                 .setPeriod(Duration.ofMillis(10))
+                 .setTimeout(Duration.ofSeconds(2))) {
+            final CompletableFuture<TransactionRecord> missing = harvester.getRecord(MISSING);
+
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> missing.get(10, TimeUnit.SECONDS));
+            assertEquals(Status.RecordNotFound, ((HederaPrecheckStatusException) e.getCause()).status);
+            assertTrue(answered.get(8L).get() > 1, "looked for more than once");
+        }
+    }
+
+    @Test
+    @DisplayName("closing fails every record still being looked for")
+    void close() throws Exception {
+        try (Client client = startClient()) {
+            final RecordHarvester harvester = new RecordHarvester(client).setPeriod(Duration.ofMinutes(1));
+            final CompletableFuture<TransactionRecord> missing = harvester.getRecord(MISSING);
+
+            harvester.close();
+
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> missing.get(10, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(0, harvester.getPending());
+        }
+    }
+
+    @Test
+    @DisplayName("a download that fails to start fails its records rather than stopping the harvest")
+    void downloadFailsToStart() throws Exception {
+        // no channel can be opened to this address, so every download throws as it starts
+        try (Client client = new Client(Collections.singletonMap(new AccountId(3), "not a host:50211"))
+                .setOperator(FakeNetwork.OPERATOR_ID, FakeNetwork.OPERATOR_KEY);
+             RecordHarvester harvester = new RecordHarvester(client).setPeriod(Duration.ofMillis(10))) {
+            final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> harvester.getRecord(FIRST).get(10, TimeUnit.SECONDS));
+
+            assertTrue(e.getCause() instanceof IllegalArgumentException, e.getCause().toString());
+
+            // still harvesting
+            final ExecutionException again = assertThrows(ExecutionException.class,
+                () -> harvester.getRecord(SECOND).get(10, TimeUnit.SECONDS));
+
+            assertTrue(again.getCause() instanceof IllegalArgumentException, again.getCause().toString());
+            assertEquals(0, harvester.getPending());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubmissionPipelineTest {
+    private final FakeNetwork network = new FakeNetwork();
+
+    private final AtomicInteger submitting = new AtomicInteger();
+
+    private final AtomicInteger maxSubmitting = new AtomicInteger();
+
+    private Client startClient(ResponseCodeEnum receiptStatus) throws IOException {
+        return network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoTransfer(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+                maxSubmitting.accumulateAndGet(submitting.incrementAndGet(), Math::max);
+
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                submitting.decrementAndGet();
+
+                responseObserver.onNext(TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                    .build());
+                responseObserver.onCompleted();
+            }
+
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                responseObserver.onNext(Response.newBuilder()
+                    .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                            .setStatus(receiptStatus)))
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    private static SubmissionPipeline newPipeline(Client client) {
+        return new SubmissionPipeline(client)
+            .setReceiptPoller(new ReceiptPoller(client).setExpectedLatency(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("every transaction gets its receipt, with no more than the limit submitting at once")
+    void boundedSubmission() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.SUCCESS)) {
+            final SubmissionPipeline pipeline = newPipeline(client).setMaxSubmitting(4);
+            final List<CryptoTransferTransaction> transfers = new ArrayList<>();
+
+            for (int i = 0; i < 40; i++) {
+                transfers.add(FakeNetwork.newTransfer());
+            }
+
+            final List<CompletableFuture<TransactionReceipt>> receipts = pipeline.submitAll(transfers);
+
+            for (CompletableFuture<TransactionReceipt> receipt : receipts) {
+                assertEquals(Status.Success, receipt.get(10, TimeUnit.SECONDS).status);
+            }
+
+            assertTrue(maxSubmitting.get() <= 4, "at most 4 submitting, saw " + maxSubmitting.get());
+            assertTrue(maxSubmitting.get() > 1, "submissions overlap");
+            assertEquals(0, pipeline.getPending());
+            assertEquals(0, pipeline.getQueued());
+        }
+    }
+
+    @Test
+    @DisplayName("a failing receipt fails only its own future")
+    void failingReceipt() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE)) {
+            final SubmissionPipeline pipeline = newPipeline(client).setMaxPending(1);
+
+            final CompletableFuture<TransactionReceipt> first = pipeline.submit(FakeNetwork.newTransfer());
+            final CompletableFuture<TransactionReceipt> second = pipeline.submit(FakeNetwork.newTransfer());
+
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+
+            assertEquals(Status.InsufficientPayerBalance, ((HederaReceiptStatusException) e.getCause()).receipt.status);
+            assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("a cancelled transaction is never started")
+    void cancelBeforeStart() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.SUCCESS)) {
+            final SubmissionPipeline pipeline = newPipeline(client).setMaxPending(1);
+
+            final CompletableFuture<TransactionReceipt> first = pipeline.submit(FakeNetwork.newTransfer());
+            final CompletableFuture<TransactionReceipt> second = pipeline.submit(FakeNetwork.newTransfer());
+
+            assertEquals(1, pipeline.getQueued());
+            second.cancel(false);
+
+            first.get(10, TimeUnit.SECONDS);
+
+            assertEquals(0, pipeline.getQueued());
+            assertEquals(0, pipeline.getPending());
+        }
+    }
+}
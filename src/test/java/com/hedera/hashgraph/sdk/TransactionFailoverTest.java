@@ -0,0 +1,184 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.SignaturePair;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionFailoverTest {
+    private static final AccountId BUSY_NODE = new AccountId(3);
+    private static final AccountId HEALTHY_NODE = new AccountId(4);
+
+    private final FakeNetwork network = new FakeNetwork();
+
+    // every transaction received by either node
+    private final List<com.hedera.hashgraph.proto.Transaction> received = new CopyOnWriteArrayList<>();
+
+    private Client startClient(ResponseCodeEnum healthyNodeStatus) throws IOException {
+        return startClient(ResponseCodeEnum.BUSY, healthyNodeStatus);
+    }
+
+    private Client startClient(@Nullable ResponseCodeEnum busyNodeStatus, ResponseCodeEnum healthyNodeStatus) throws IOException {
+        final Map<AccountId, String> nodes = new HashMap<>();
+        nodes.put(BUSY_NODE, startNode(busyNodeStatus));
+        nodes.put(HEALTHY_NODE, startNode(healthyNodeStatus));
+
+        return new Client(nodes).setOperator(FakeNetwork.OPERATOR_ID, FakeNetwork.OPERATOR_KEY);
+    }
+
+    /**
+     * @param precheckCode the precheck code to answer every transaction with, or {@code null} to
+     *                     fail with gRPC {@code UNAVAILABLE} after receiving it.
+     */
+    private String startNode(@Nullable ResponseCodeEnum precheckCode) throws IOException {
+        return network.startNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoTransfer(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+                received.add(request);
+
+                if (precheckCode == null) {
+                    responseObserver.onError(io.grpc.Status.UNAVAILABLE.asRuntimeException());
+                    return;
+                }
+
+                responseObserver.onNext(TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(precheckCode)
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    private static CryptoTransferTransaction newTransfer() {
+        return FakeNetwork.newTransfer().setNodeAccountId(BUSY_NODE);
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("a transaction moves to another node, re-signed, when its node is busy")
+    void failsOverToAnotherNode() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.OK)) {
+            final TransactionId id = newTransfer()
+                .setMaxNodeFailovers(1)
+                .executeFuture(client, Duration.ofSeconds(10))
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, received.size());
+
+            final TransactionBody first = TransactionBody.parseFrom(received.get(0).getBodyBytes());
+            final TransactionBody second = TransactionBody.parseFrom(received.get(1).getBodyBytes());
+
+            assertEquals(BUSY_NODE.toProto(), first.getNodeAccountID());
+            assertEquals(HEALTHY_NODE.toProto(), second.getNodeAccountID());
+
+            // the same transaction ID, so the network can only execute one of them
+            assertEquals(first.getTransactionID(), second.getTransactionID());
+            assertEquals(id, new TransactionId(second.getTransactionID()));
+
+            assertEquals(1, received.get(1).getSigMap().getSigPairCount());
+
+            final SignaturePair sigPair = received.get(1).getSigMap().getSigPair(0);
+            final byte[] message = received.get(1).getBodyBytes().toByteArray();
+
+            assertTrue(Ed25519.verify(sigPair.getEd25519().toByteArray(), 0,
+                FakeNetwork.OPERATOR_KEY.publicKey.toBytes(), 0, message, 0, message.length));
+        }
+    }
+
+    @Test
+    @DisplayName("a duplicate precheck after a transport error means an earlier submission got through")
+    void duplicateAfterFailover() throws Exception {
+        try (Client client = startClient(null, ResponseCodeEnum.DUPLICATE_TRANSACTION)) {
+            newTransfer()
+                .setMaxNodeFailovers(1)
+                .executeFuture(client, Duration.ofSeconds(10))
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, received.size());
+        }
+    }
+
+    @Test
+    @DisplayName("a duplicate precheck after BUSY is a genuine duplicate")
+    void duplicateAfterBusy() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.DUPLICATE_TRANSACTION)) {
+            final ExecutionException e = assertThrows(ExecutionException.class, () -> newTransfer()
+                .setMaxNodeFailovers(1)
+                .executeFuture(client, Duration.ofSeconds(10))
+                .get(10, TimeUnit.SECONDS));
+
+            assertEquals(Status.DuplicateTransaction, ((HederaPrecheckStatusException) e.getCause()).status);
+        }
+    }
+
+    @Test
+    @DisplayName("without failover a transaction stays on its node")
+    void noFailoverByDefault() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.OK)) {
+            // end on the attempt limit rather than the timeout, which could cut an attempt short
+            client.setRetryPolicy(new DefaultRetryPolicy()
+                .setBaseDelay(Duration.ofMillis(10))
+                .setMaxAttempts(3));
+
+            final HederaPrecheckStatusException e = assertThrows(HederaPrecheckStatusException.class,
+                () -> newTransfer().execute(client, Duration.ofSeconds(10)));
+
+            assertEquals(Status.Busy, e.status);
+
+            for (com.hedera.hashgraph.proto.Transaction transaction : received) {
+                assertEquals(BUSY_NODE.toProto(),
+                    TransactionBody.parseFrom(transaction.getBodyBytes()).getNodeAccountID());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("a transaction is not moved to another node when no retry follows")
+    void noFailoverWithoutRetry() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.OK)) {
+            client.setRetryPolicy(new DefaultRetryPolicy().setMaxAttempts(1));
+
+            final Transaction transaction = newTransfer()
+                .setMaxNodeFailovers(1)
+                .build(client);
+
+            final HederaPrecheckStatusException e = assertThrows(HederaPrecheckStatusException.class,
+                () -> transaction.execute(client, Duration.ofSeconds(10)));
+
+            assertEquals(Status.Busy, e.status);
+            assertEquals(1, received.size());
+
+            // neither moved nor re-signed for a retry that never came
+            assertEquals(received.get(0), transaction.toProto());
+        }
+    }
+}
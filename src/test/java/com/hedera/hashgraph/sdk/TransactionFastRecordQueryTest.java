@@ -0,0 +1,107 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.ResponseType;
+import com.hedera.hashgraph.proto.TransactionGetFastRecordResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionFastRecordQueryTest {
+    private static final TransactionId TRANSACTION_ID =
+        TransactionId.withValidStart(new AccountId(2), Instant.ofEpochSecond(1_554_158_542));
+
+    private final FakeNetwork network = new FakeNetwork();
+
+    private final AtomicInteger answered = new AtomicInteger();
+
+    /**
+     * @param notFoundAnswers how many times to answer {@code RECORD_NOT_FOUND} before the record.
+     */
+    private Client startClient(int notFoundAnswers) throws IOException {
+        final Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getFastTransactionRecord(Query request, StreamObserver<Response> responseObserver) {
+                final TransactionGetFastRecordResponse.Builder response = TransactionGetFastRecordResponse.newBuilder();
+
+                if (request.getTransactionGetFastRecord().getHeader().getResponseType() == ResponseType.COST_ANSWER) {
+                    response.setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                        .setCost(25));
+                } else if (answered.getAndIncrement() < notFoundAnswers) {
+                    response.setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.RECORD_NOT_FOUND));
+                } else {
+                    response.setHeader(ResponseHeader.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setTransactionRecord(com.hedera.hashgraph.proto.TransactionRecord.newBuilder()
+                            .setTransactionID(TRANSACTION_ID.toProto())
+                            .setTransactionFee(1234)
+                            .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                                .setStatus(ResponseCodeEnum.SUCCESS)));
+                }
+
+                responseObserver.onNext(Response.newBuilder().setTransactionGetFastRecord(response).build());
+                responseObserver.onCompleted();
+            }
+        });
+
+        return client.setRetryPolicy(new DefaultRetryPolicy().setBaseDelay(Duration.ofMillis(10)));
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("incorrect query does not validate")
+    void incorrectQueryDoesNotValidate() {
+        final TransactionFastRecordQuery query = new TransactionFastRecordQuery();
+
+        assertThrows(
+            IllegalStateException.class,
+            query::validate,
+            "query builder failed local validation:\n" +
+                ".setTransactionId() required"
+        );
+    }
+
+    @Test
+    @DisplayName("the record is polled for until it has been generated")
+    void retriesUntilFound() throws Exception {
+        try (Client client = startClient(2)) {
+            final TransactionRecord record = TRANSACTION_ID.getFastRecord(client, Duration.ofSeconds(10));
+
+            assertEquals(TRANSACTION_ID, record.transactionId);
+            assertEquals(1234, record.transactionFee);
+            assertEquals(3, answered.get());
+        }
+    }
+
+    @Test
+    @DisplayName("the cost of the query is read from the fast record response")
+    void getCost() throws Exception {
+        try (Client client = startClient(0)) {
+            assertEquals(25, new TransactionFastRecordQuery()
+                .setTransactionId(TRANSACTION_ID)
+                .getCost(client));
+        }
+    }
+}
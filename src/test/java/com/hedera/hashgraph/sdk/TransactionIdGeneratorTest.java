@@ -0,0 +1,118 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionIdGeneratorTest {
+    private static final Instant NOW = Instant.ofEpochSecond(1_554_158_542, 123_456_789);
+
+    @Test
+    @DisplayName("valid starts asked for at the same instant increase")
+    void increasing() {
+        final TransactionIdGenerator generator = new TransactionIdGenerator();
+        final AccountId payer = new AccountId(2);
+
+        assertEquals(NOW, generator.next(payer, NOW));
+        assertEquals(NOW.plusNanos(1), generator.next(payer, NOW));
+        assertEquals(NOW.plusNanos(2), generator.next(payer, NOW));
+        assertEquals(NOW.plusSeconds(1), generator.next(payer, NOW.plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("valid starts are never moved later than asked for to follow a later one")
+    void notLaterThanAsked() {
+        final TransactionIdGenerator generator = new TransactionIdGenerator();
+        final AccountId payer = new AccountId(2);
+
+        assertEquals(NOW, generator.next(payer, NOW));
+        assertEquals(NOW.minusSeconds(8), generator.next(payer, NOW.minusSeconds(8)));
+        assertEquals(NOW.plusNanos(1), generator.next(payer, NOW));
+        assertEquals(NOW.minusSeconds(8).plusNanos(1), generator.next(payer, NOW.minusSeconds(8)));
+    }
+
+    @Test
+    @DisplayName("a valid start more than a millisecond behind the last one used is moved earlier")
+    void earlierWhenFarBehind() {
+        final TransactionIdGenerator generator = new TransactionIdGenerator();
+        final AccountId payer = new AccountId(2);
+
+        // uses every nanosecond from `NOW` to a millisecond after
+        for (int i = 0; i <= 1_000_000; i++) {
+            generator.next(payer, NOW);
+        }
+
+        assertEquals(NOW.minusNanos(1), generator.next(payer, NOW));
+        assertEquals(NOW.minusNanos(2), generator.next(payer, NOW));
+    }
+
+    @Test
+    @DisplayName("payers don't affect each other")
+    void perPayer() {
+        final TransactionIdGenerator generator = new TransactionIdGenerator();
+
+        assertEquals(NOW, generator.next(new AccountId(2), NOW));
+        assertEquals(NOW, generator.next(new AccountId(3), NOW));
+    }
+
+    @Test
+    @DisplayName("valid starts are unique across threads")
+    void concurrent() throws Exception {
+        final TransactionIdGenerator generator = new TransactionIdGenerator();
+        final AccountId payer = new AccountId(2);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            final List<Future<List<Instant>>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit((Callable<List<Instant>>) () -> {
+                    final List<Instant> instants = new ArrayList<>();
+
+                    for (int j = 0; j < 10_000; j++) {
+                        instants.add(generator.next(payer, NOW));
+                    }
+
+                    return instants;
+                }));
+            }
+
+            final Set<Instant> unique = new HashSet<>();
+
+            for (Future<List<Instant>> future : futures) {
+                unique.addAll(future.get());
+            }
+
+            assertEquals(80_000, unique.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("generated transaction IDs take the current time from the given clock")
+    void clock() {
+        final AccountId payer = new AccountId(0, 0, 1_000_017);
+        final TransactionId id = TransactionId.generate(payer, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertEquals(payer, id.accountId);
+        assertEquals(NOW.minusSeconds(10), id.validStart);
+        assertTrue(TransactionId.generate(payer, Clock.fixed(NOW, ZoneOffset.UTC)).validStart.isAfter(id.validStart));
+    }
+}
@@ -0,0 +1,138 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.proto.TransactionResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionRegenerationTest {
+    private final FakeNetwork network = new FakeNetwork();
+
+    // the transaction ID of every transaction received
+    private final List<TransactionId> received = new CopyOnWriteArrayList<>();
+
+    // how many of the first transactions received to fail with a transport error
+    private final AtomicInteger transportFailures = new AtomicInteger();
+
+    /**
+     * @param precheckCodes the precheck codes to answer with, in order; the last is repeated.
+     */
+    private Client startClient(ResponseCodeEnum... precheckCodes) throws IOException {
+        final Iterator<ResponseCodeEnum> codes = Arrays.asList(precheckCodes).iterator();
+
+        final Client client = network.startClient(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            private ResponseCodeEnum code = ResponseCodeEnum.OK;
+
+            @Override
+            public synchronized void cryptoTransfer(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+                try {
+                    received.add(new TransactionId(TransactionBody.parseFrom(request.getBodyBytes()).getTransactionID()));
+                } catch (IOException e) {
+                    responseObserver.onError(e);
+                    return;
+                }
+
+                if (transportFailures.getAndDecrement() > 0) {
+                    responseObserver.onError(io.grpc.Status.UNAVAILABLE.asRuntimeException());
+                    return;
+                }
+
+                if (codes.hasNext()) {
+                    code = codes.next();
+                }
+
+                responseObserver.onNext(TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(code)
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+
+        return client.setRetryPolicy(new DefaultRetryPolicy().setBaseDelay(Duration.ofMillis(10)));
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("a transaction rejected for its start time is regenerated with a new ID")
+    void regenerate() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.INVALID_TRANSACTION_START, ResponseCodeEnum.OK)) {
+            final TransactionId id = FakeNetwork.newTransfer()
+                .setMaxRegenerations(1)
+                .execute(client, Duration.ofSeconds(10));
+
+            assertEquals(2, received.size());
+            assertNotEquals(received.get(0), received.get(1));
+            assertEquals(received.get(1), id);
+        }
+    }
+
+    @Test
+    @DisplayName("executeAsync() regenerates up to the limit")
+    void regenerateAsyncLimit() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.TRANSACTION_EXPIRED)) {
+            final Exception e = assertThrows(Exception.class, () -> FakeNetwork.newTransfer()
+                .setMaxRegenerations(2)
+                .executeFuture(client, Duration.ofSeconds(10))
+                .get(10, TimeUnit.SECONDS));
+
+            assertEquals(Status.TransactionExpired, ((HederaPrecheckStatusException) e.getCause()).status);
+            assertEquals(3, received.size());
+        }
+    }
+
+    @Test
+    @DisplayName("a transaction ID set by the user is never regenerated")
+    void userTransactionId() throws Exception {
+        try (Client client = startClient(ResponseCodeEnum.DUPLICATE_TRANSACTION)) {
+            final HederaPrecheckStatusException e = assertThrows(HederaPrecheckStatusException.class,
+                () -> FakeNetwork.newTransfer()
+                    .setTransactionId(TransactionId.withValidStart(FakeNetwork.OPERATOR_ID, Instant.now().minusSeconds(10)))
+                    .setMaxRegenerations(1)
+                    .execute(client, Duration.ofSeconds(10)));
+
+            assertEquals(Status.DuplicateTransaction, e.status);
+            assertEquals(1, received.size());
+        }
+    }
+
+    @Test
+    @DisplayName("a transaction that may have reached the network is never regenerated")
+    void possiblySubmitted() throws Exception {
+        transportFailures.set(1);
+
+        try (Client client = startClient(ResponseCodeEnum.TRANSACTION_EXPIRED)) {
+            final HederaPrecheckStatusException e = assertThrows(HederaPrecheckStatusException.class,
+                () -> FakeNetwork.newTransfer()
+                    .setMaxRegenerations(1)
+                    .execute(client, Duration.ofSeconds(10)));
+
+            assertEquals(Status.TransactionExpired, e.status);
+            assertEquals(2, received.size());
+            assertEquals(received.get(0), received.get(1));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.hedera.hashgraph.sdk.consensus;
+
+import com.hedera.hashgraph.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.FakeNetwork;
+import com.hedera.hashgraph.sdk.TransactionId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConsensusMessageSubmitTransactionTest {
+    private final FakeNetwork network = new FakeNetwork();
+
+    // the transaction ID of every chunk received
+    private final List<TransactionId> received = new CopyOnWriteArrayList<>();
+
+    private Client startClient() throws IOException {
+        return network.startClient(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+            @Override
+            public void submitMessage(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+                try {
+                    received.add(new TransactionId(TransactionBody.parseFrom(request.getBodyBytes()).getTransactionID()));
+                } catch (IOException e) {
+                    responseObserver.onError(e);
+                    return;
+                }
+
+                responseObserver.onNext(TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                    .build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    @AfterEach
+    void stopNetwork() throws InterruptedException {
+        network.close();
+    }
+
+    @Test
+    @DisplayName("executeFuture() with a timeout builds and submits every chunk")
+    void executeFutureWithTimeout() throws Exception {
+        try (Client client = startClient()) {
+            final TransactionId id = new ConsensusMessageSubmitTransaction()
+                .setTopicId(new ConsensusTopicId(0, 0, 1000))
+                .setMessage(new byte[5000])
+                .executeFuture(client, Duration.ofSeconds(10))
+                .get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, received.size());
+            assertEquals(received.get(0), id);
+        }
+    }
+}
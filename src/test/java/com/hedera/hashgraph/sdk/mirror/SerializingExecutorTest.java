@@ -0,0 +1,46 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerializingExecutorTest {
+    @Test
+    @DisplayName("runs tasks in order on a thread pool")
+    void inOrder() throws InterruptedException {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final SerializingExecutor executor = new SerializingExecutor(pool);
+
+        final List<Integer> seen = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1000);
+
+        try {
+            for (int i = 0; i < 1000; i++) {
+                final int n = i;
+
+                executor.execute(() -> {
+                    // only one task runs at a time, so no locking is needed
+                    seen.add(n);
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, seen.get(i));
+        }
+    }
+}